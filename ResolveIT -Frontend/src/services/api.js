@@ -189,7 +189,7 @@ export const getComplaintTimeline = async (complaintId) => {
 export const fetchAllGrievances = async () => {
   try {
     // Admin endpoint to get all complaints as a list
-    return await apiClient.get('/complaints/all');
+    return await apiClient.get('/complaints/all?include=updates');
   } catch (error) {
     throw error;
   }
@@ -0,0 +1,39 @@
+package com.resolveit.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * In-process caches backed by Caffeine.
+ *
+ * complaints: assembled ComplaintResponse objects keyed by complaint ID.
+ * Bounded by size and time-to-live (complaint.cache.spec); statistics are
+ * recorded so hit/miss/eviction counts show up under /actuator/metrics/cache.*
+ *
+ * complaintOwners: owner user ID per complaint ID for ownership checks
+ * (complaint.access.owner-cache-spec). Owners never change, so only size bounds it.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String COMPLAINTS_CACHE = "complaints";
+    public static final String COMPLAINT_OWNERS_CACHE = "complaintOwners";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${complaint.cache.spec:maximumSize=10000,expireAfterWrite=10m}") String complaintCacheSpec,
+            @Value("${complaint.access.owner-cache-spec:maximumSize=50000}") String ownerCacheSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(COMPLAINTS_CACHE);
+        cacheManager.setCaffeine(Caffeine.from(complaintCacheSpec).recordStats());
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(COMPLAINT_OWNERS_CACHE,
+                Caffeine.from(ownerCacheSpec).recordStats().build());
+        return cacheManager;
+    }
+}
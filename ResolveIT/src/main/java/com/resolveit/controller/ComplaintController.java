@@ -1,31 +1,55 @@
 package com.resolveit.controller;
 
+import com.resolveit.dto.BulkAssignRequest;
+import com.resolveit.dto.BulkDeleteRequest;
+import com.resolveit.dto.BulkStatusUpdateRequest;
+import com.resolveit.dto.ComplaintFilter;
 import com.resolveit.dto.ComplaintRequest;
 import com.resolveit.dto.ComplaintResponse;
+import com.resolveit.dto.ComplaintSummary;
+import com.resolveit.dto.FileCleanupProgress;
 import com.resolveit.dto.StatusUpdateRequest;
-import com.resolveit.dto.ComplaintUpdateResponse;
 import com.resolveit.model.Comment;
+import com.resolveit.model.Complaint;
 import com.resolveit.model.ComplaintStatus;
+import com.resolveit.model.ComplaintView;
 import com.resolveit.model.Notification;
 import com.resolveit.model.User;
 import com.resolveit.repository.ComplaintRepository;
+import com.resolveit.repository.ComplaintSpecifications;
 import com.resolveit.repository.NotificationRepository;
 import com.resolveit.service.AttachmentService;
+import com.resolveit.service.ComplaintBulkService;
+import com.resolveit.service.ComplaintImportService;
+import com.resolveit.service.ComplaintSearchService;
 import com.resolveit.service.ComplaintService;
+import com.resolveit.service.ComplaintViewService;
+import com.resolveit.service.ComplaintWorkflow;
+import com.resolveit.service.ETagService;
+import com.resolveit.service.FileCleanupService;
+import com.resolveit.service.StatusConflictException;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.function.Supplier;
 
 /**
  * ComplaintController - REST API for Complaint/Grievance Management
@@ -49,38 +73,173 @@ import java.util.NoSuchElementException;
 @RequestMapping("/api/complaints")
 public class ComplaintController {
 
+    private static final String VIEW_SUMMARY = "summary";
+    private static final String VIEW_DASHBOARD = "dashboard";
+    private static final String INCLUDE_UPDATES = "updates";
+
     @Autowired
     private ComplaintService complaintService;
 
     @Autowired
     private AttachmentService attachmentService;
 
+    @Autowired
+    private ETagService eTagService;
+
+    @Autowired
+    private ComplaintViewService complaintViewService;
+
+    @Autowired
+    private ComplaintBulkService complaintBulkService;
+
+    @Autowired
+    private ComplaintImportService complaintImportService;
+
+    @Autowired
+    private ComplaintSearchService complaintSearchService;
+
+    @Autowired
+    private ComplaintWorkflow complaintWorkflow;
+
+    @Autowired
+    private FileCleanupService fileCleanupService;
+
     // ==================== READ Operations ====================
 
     /**
      * Get all complaints with pagination (for admin dashboard)
+     * Supports view=summary, view=dashboard and fields=a,b,c like the list endpoints below.
+     * The update history is left out unless include=updates is given.
      */
     @GetMapping
-    public ResponseEntity<Page<ComplaintResponse>> getAllComplaints(Pageable pageable) {
-        return ResponseEntity.ok(complaintService.getAllComplaints(pageable));
+    public ResponseEntity<?> getAllComplaints(
+            Pageable pageable,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String include,
+            ServletWebRequest request) {
+        String etag = eTagService.forComplaints(request.getRequest(), "all", ComplaintSpecifications.all());
+        return conditional(request, etag, () -> {
+            if (fields != null && !fields.isBlank()) {
+                return sparse(() -> complaintService.getComplaintFields(fields, ComplaintSpecifications.all(),
+                        pageable));
+            }
+            if (VIEW_SUMMARY.equalsIgnoreCase(view)) {
+                return ResponseEntity.ok(complaintService.getAllComplaintSummaries(pageable));
+            }
+            if (VIEW_DASHBOARD.equalsIgnoreCase(view)) {
+                return ResponseEntity.ok(complaintViewService.findAll(pageable));
+            }
+            return ResponseEntity.ok(complaintService.getAllComplaints(pageable, includesUpdates(include)));
+        });
+    }
+
+    /**
+     * Get complaints with keyset (cursor) pagination.
+     * Pass the returned nextCursor to fetch the following page; no total count is
+     * computed, so deep pages cost the same as the first one.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<?> getComplaintsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(complaintService.getComplaintsSlice(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
     }
 
     /**
      * Get all complaints as a simple list (Admin only)
      * Used by admin dashboard for displaying all grievances
+     *
+     * stream=ndjson or stream=json writes the complaints to the response as they
+     * are read instead of building the whole list in memory first.
+     * view=summary, view=dashboard or fields=a,b,c pick a lighter representation (see listView);
+     * include=updates adds each complaint's full update history.
      */
     @GetMapping("/all")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<ComplaintResponse>> getAllComplaintsList() {
-        return ResponseEntity.ok(complaintService.getAllComplaintsList());
+    public ResponseEntity<?> getAllComplaintsList(
+            @RequestParam(required = false) String stream,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String include,
+            ServletWebRequest request) {
+        if ("ndjson".equalsIgnoreCase(stream)) {
+            StreamingResponseBody body = out -> complaintService.streamAllComplaints(out, true);
+            return ResponseEntity.ok().contentType(MediaType.parseMediaType("application/x-ndjson")).body(body);
+        }
+        if ("json".equalsIgnoreCase(stream)) {
+            StreamingResponseBody body = out -> complaintService.streamAllComplaints(out, false);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        }
+        return listView(request, "all", ComplaintSpecifications.all(), view, fields,
+                complaintService::getAllComplaintSummaries,
+                complaintViewService::findAll,
+                () -> complaintService.getAllComplaintsList(includesUpdates(include)));
     }
 
     /**
-     * Get a single complaint by ID
+     * Server-side filtering for the dashboards: status, category, priority,
+     * escalated, assignee (assigneeId / unassigned) and createdFrom/createdTo.
+     * Returns one page plus per-facet counts.
+     */
+    @GetMapping("/filter")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('STAFF')")
+    public ResponseEntity<?> filterComplaints(@ModelAttribute ComplaintFilter filter, Pageable pageable) {
+        try {
+            return ResponseEntity.ok(complaintViewService.filter(filter, pageable));
+        } catch (PropertyReferenceException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * Full-text search over complaint title, description and comments,
+     * ranked by relevance, with optional status/category/priority filters.
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('STAFF')")
+    public ResponseEntity<?> searchComplaints(
+            @RequestParam String q,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String priority,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) throws IOException {
+        try {
+            ComplaintStatus complaintStatus = status != null && !status.isBlank()
+                    ? ComplaintStatus.valueOf(status.toUpperCase())
+                    : null;
+            return ResponseEntity.ok(complaintSearchService.search(q, complaintStatus, category, priority,
+                    page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/search/rebuild")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<?> rebuildSearchIndex() {
+        complaintSearchService.rebuildAsync();
+        return ResponseEntity.accepted().body(Map.of("message", "Search index rebuild started"));
+    }
+
+    /**
+     * Get a single complaint by ID (include=updates adds the full update history)
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ComplaintResponse> getComplaintById(@PathVariable Long id) {
-        return ResponseEntity.ok(complaintService.getComplaintById(id));
+    public ResponseEntity<ComplaintResponse> getComplaintById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String include,
+            ServletWebRequest request) {
+        String etag = eTagService.forComplaint(request.getRequest(), id);
+        if (etag != null && request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(complaintService.getComplaintById(id, includesUpdates(include)));
     }
 
     // ==================== CREATE Operations ====================
@@ -97,16 +256,20 @@ public class ComplaintController {
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or @complaintService.isOwner(#id, #currentUser.username)")
-    public ResponseEntity<ComplaintResponse> updateComplaint(
+    @PreAuthorize("hasRole('ADMIN') or @complaintAccess.isOwner(#id, #currentUser)")
+    public ResponseEntity<?> updateComplaint(
             @PathVariable Long id,
             @Valid @RequestBody ComplaintRequest complaintRequest,
             @AuthenticationPrincipal User currentUser) {
-        return ResponseEntity.ok(complaintService.updateComplaint(id, complaintRequest));
+        try {
+            return ResponseEntity.ok(complaintService.updateComplaint(id, complaintRequest));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return concurrentUpdate(id);
+        }
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or @complaintService.isOwner(#id, #currentUser.username)")
+    @PreAuthorize("hasRole('ADMIN') or @complaintAccess.isOwner(#id, #currentUser)")
     public ResponseEntity<Void> deleteComplaint(
             @PathVariable Long id,
             @AuthenticationPrincipal User currentUser) {
@@ -120,30 +283,89 @@ public class ComplaintController {
             @PathVariable Long id,
             @Valid @RequestBody StatusUpdateRequest statusUpdate,
             @AuthenticationPrincipal User currentUser) {
-        ComplaintResponse response = complaintService.updateComplaintStatus(id, statusUpdate, currentUser);
-        return ResponseEntity.ok(response);
+        try {
+            ComplaintResponse response = complaintService.updateComplaintStatus(id, statusUpdate, currentUser);
+            return ResponseEntity.ok(response);
+        } catch (StatusConflictException e) {
+            // Lost a race with another status change - the client should reload and retry
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                    "message", e.getMessage(),
+                    "currentStatus", e.getCurrentStatus()));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(404).body(Map.of("message", e.getMessage()));
+        }
     }
 
     @GetMapping("/my-complaints")
-    public ResponseEntity<List<ComplaintResponse>> getMyComplaints(
-            @AuthenticationPrincipal User currentUser) {
-        return ResponseEntity.ok(complaintService.getComplaintsByUser(currentUser));
+    public ResponseEntity<?> getMyComplaints(
+            @AuthenticationPrincipal User currentUser,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String include,
+            ServletWebRequest request) {
+        return listView(request, "owner:" + currentUser.getId(),
+                ComplaintSpecifications.createdBy(currentUser.getId()), view, fields,
+                () -> complaintService.getComplaintSummariesByUserId(currentUser.getId()),
+                () -> complaintViewService.findByOwner(currentUser.getId()),
+                () -> complaintService.getComplaintsByUser(currentUser, includesUpdates(include)));
     }
 
     @GetMapping("/user/{userId}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('STAFF') or #userId == #currentUser.id")
-    public ResponseEntity<List<ComplaintResponse>> getComplaintsByUser(
+    public ResponseEntity<?> getComplaintsByUser(
             @PathVariable Long userId,
-            @AuthenticationPrincipal User currentUser) {
-        return ResponseEntity.ok(complaintService.getComplaintsByUserId(userId));
+            @AuthenticationPrincipal User currentUser,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String include,
+            ServletWebRequest request) {
+        return listView(request, "owner:" + userId, ComplaintSpecifications.createdBy(userId), view, fields,
+                () -> complaintService.getComplaintSummariesByUserId(userId),
+                () -> complaintViewService.findByOwner(userId),
+                () -> complaintService.getComplaintsByUserId(userId, includesUpdates(include)));
     }
 
     @PostMapping("/{id}/assign/{userId}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ComplaintResponse> assignComplaint(
+    public ResponseEntity<?> assignComplaint(
             @PathVariable Long id,
             @PathVariable Long userId) {
-        return ResponseEntity.ok(complaintService.assignComplaint(id, userId));
+        try {
+            return ResponseEntity.ok(complaintService.assignComplaint(id, userId));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return concurrentUpdate(id);
+        }
+    }
+
+    /**
+     * Assign many complaints at once (Admin only) - either explicit IDs per
+     * assignee, or every complaint matching a filter spread across assignees.
+     * Returns per-assignee counts, not complaint DTOs.
+     */
+    @PostMapping("/bulk/assign")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> bulkAssign(@RequestBody BulkAssignRequest assignRequest) {
+        try {
+            return ResponseEntity.ok(complaintBulkService.assign(assignRequest));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * Delete many complaints at once (Admin only) - explicit IDs or every
+     * complaint matching a filter. Attachment files are removed after commit.
+     */
+    @PostMapping("/bulk/delete")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> bulkDelete(@RequestBody BulkDeleteRequest deleteRequest) {
+        try {
+            return ResponseEntity.ok(complaintBulkService.delete(deleteRequest));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
     }
 
     @PostMapping("/{id}/comments")
@@ -156,19 +378,73 @@ public class ComplaintController {
 
     @GetMapping("/status/{status}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('STAFF')")
-    public ResponseEntity<Page<ComplaintResponse>> getComplaintsByStatus(
+    public ResponseEntity<?> getComplaintsByStatus(
             @PathVariable String status,
-            Pageable pageable) {
-        return ResponseEntity
-                .ok(complaintService.getComplaintsByStatus(ComplaintStatus.valueOf(status.toUpperCase()), pageable));
+            Pageable pageable,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String include,
+            ServletWebRequest request) {
+        ComplaintStatus complaintStatus = ComplaintStatus.valueOf(status.toUpperCase());
+        String etag = eTagService.forComplaints(request.getRequest(), "status:" + complaintStatus,
+                ComplaintSpecifications.hasStatus(complaintStatus));
+        return conditional(request, etag, () -> {
+            if (fields != null && !fields.isBlank()) {
+                return sparse(() -> complaintService.getComplaintFields(fields,
+                        ComplaintSpecifications.hasStatus(complaintStatus), pageable));
+            }
+            if (VIEW_SUMMARY.equalsIgnoreCase(view)) {
+                return ResponseEntity.ok(complaintService.getComplaintSummariesByStatus(complaintStatus, pageable));
+            }
+            if (VIEW_DASHBOARD.equalsIgnoreCase(view)) {
+                return ResponseEntity.ok(complaintViewService.findByStatus(complaintStatus, pageable));
+            }
+            return ResponseEntity.ok(complaintService.getComplaintsByStatus(complaintStatus, pageable,
+                    includesUpdates(include)));
+        });
+    }
+
+    /**
+     * Move many complaints to one status in a single request (Admin only).
+     * Each ID is validated against the status hierarchy; the response lists
+     * success or the failure reason per ID.
+     */
+    @PostMapping("/bulk/status")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<?> bulkUpdateStatus(
+            @Valid @RequestBody BulkStatusUpdateRequest bulkRequest,
+            @AuthenticationPrincipal User currentUser) {
+        try {
+            return ResponseEntity.ok(complaintBulkService.updateStatus(bulkRequest, currentUser));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/status/{status}/cursor")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('STAFF')")
+    public ResponseEntity<?> getComplaintsByStatusCursor(
+            @PathVariable String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(complaintService.getComplaintsByStatusSlice(
+                    ComplaintStatus.valueOf(status.toUpperCase()), cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
     }
 
     @PostMapping("/{id}/escalate")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ComplaintResponse> escalateComplaint(
+    public ResponseEntity<?> escalateComplaint(
             @PathVariable Long id,
             @AuthenticationPrincipal User currentUser) {
-        return ResponseEntity.ok(complaintService.escalateComplaint(id, currentUser));
+        try {
+            return ResponseEntity.ok(complaintService.escalateComplaint(id, currentUser));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return concurrentUpdate(id);
+        }
     }
 
     // ==================== Attachment Endpoints ====================
@@ -190,35 +466,108 @@ public class ComplaintController {
     }
 
     @GetMapping("/{id}/attachments")
-    public ResponseEntity<?> getAttachments(@PathVariable Long id) {
-        try {
-            return ResponseEntity.ok(attachmentService.getAttachmentsByComplaint(id));
-        } catch (NoSuchElementException e) {
-            return ResponseEntity.status(404).body(Map.of("message", e.getMessage()));
-        }
+    public ResponseEntity<?> getAttachments(@PathVariable Long id, ServletWebRequest request) {
+        return conditional(request, eTagService.forComplaint(request.getRequest(), id), () -> {
+            try {
+                return ResponseEntity.ok(attachmentService.getAttachmentsByComplaint(id));
+            } catch (NoSuchElementException e) {
+                return ResponseEntity.status(404).body(Map.of("message", e.getMessage()));
+            }
+        });
     }
 
     // ==================== Timeline Endpoints ====================
 
+    /**
+     * Full timeline by default. With since=<updateId> and/or limit, returns
+     * only that window plus the cursor for the next poll.
+     */
     @GetMapping("/{id}/timeline")
-    public ResponseEntity<List<ComplaintUpdateResponse>> getTimeline(@PathVariable Long id) {
-        return ResponseEntity.ok(complaintService.getTimeline(id));
+    public ResponseEntity<?> getTimeline(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long since,
+            @RequestParam(required = false) Integer limit,
+            ServletWebRequest request) {
+        return conditional(request, eTagService.forComplaint(request.getRequest(), id), () -> {
+            if (since == null && limit == null) {
+                return ResponseEntity.ok(complaintService.getTimeline(id));
+            }
+            return ResponseEntity.ok(complaintService.getTimeline(id, since, limit));
+        });
     }
 
+    /**
+     * Resets complaint data. Attachment files are deleted in the background;
+     * poll /reset-data/files/{jobId} for progress.
+     */
     @PostMapping("/reset-data")
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
     public ResponseEntity<?> resetData() {
-        complaintService.resetComplaints();
-        return ResponseEntity.ok("Complaint data reset successfully");
+        FileCleanupProgress fileCleanup = complaintService.resetComplaints();
+        return ResponseEntity.ok(Map.of("message", "Complaint data reset successfully", "fileCleanup", fileCleanup));
+    }
+
+    @GetMapping("/reset-data/files/{jobId}")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<?> getFileCleanupProgress(@PathVariable String jobId) {
+        return fileCleanupService.getProgress(jobId)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Import complaints from a CSV (header line required) or NDJSON file.
+     * Columns/keys: title, description, category, priority, anonymous,
+     * ownerEmail, and optionally status and createdAt (ISO-8601).
+     * The import runs in the background; poll the returned job for progress.
+     */
+    @PostMapping("/import")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<?> importComplaints(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format) {
+        try {
+            return ResponseEntity.accepted().body(complaintImportService.startImport(file, format));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.status(500).body(Map.of("message", "Upload failed: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/import/{jobId}")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<?> getImportProgress(@PathVariable String jobId) {
+        return complaintImportService.getProgress(jobId)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Regenerates the complaint_view read model from the source tables.
+     */
+    @PostMapping("/read-model/rebuild")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<?> rebuildReadModel() {
+        long rows = complaintViewService.rebuild();
+        return ResponseEntity.ok(Map.of("message", "Read model rebuilt", "rows", rows));
     }
 
     // ==================== Staff Endpoints ====================
 
     @GetMapping("/assigned")
     @PreAuthorize("hasAuthority('ROLE_STAFF') or hasAuthority('ROLE_ADMIN')")
-    public ResponseEntity<List<ComplaintResponse>> getAssignedComplaints(@AuthenticationPrincipal User currentUser) {
-        List<ComplaintResponse> assigned = complaintService.getAssignedComplaints(currentUser.getId());
-        return ResponseEntity.ok(assigned);
+    public ResponseEntity<?> getAssignedComplaints(
+            @AuthenticationPrincipal User currentUser,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String include,
+            ServletWebRequest request) {
+        return listView(request, "assignee:" + currentUser.getId(),
+                ComplaintSpecifications.assignedTo(currentUser.getId()), view, fields,
+                () -> complaintService.getAssignedComplaintSummaries(currentUser.getId()),
+                () -> complaintViewService.findByAssignee(currentUser.getId()),
+                () -> complaintService.getAssignedComplaints(currentUser.getId(), includesUpdates(include)));
     }
 
     @Autowired
@@ -262,21 +611,27 @@ public class ComplaintController {
             return ResponseEntity.badRequest().body(Map.of("message", "Requested status is required"));
         }
 
-        // Validate status value
+        ComplaintStatus targetStatus;
         try {
-            ComplaintStatus.valueOf(requestedStatus);
+            targetStatus = ComplaintStatus.valueOf(requestedStatus.toUpperCase());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of("message", "Invalid status: " + requestedStatus));
         }
 
         return complaintRepository.findById(id)
-                .map(complaint -> {
+                .<ResponseEntity<?>>map(complaint -> {
+                    // Validate against the workflow table; the admin applies it, so roles are not checked here
+                    try {
+                        complaintWorkflow.check(complaint.getStatus(), targetStatus);
+                    } catch (IllegalArgumentException | IllegalStateException e) {
+                        return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+                    }
                     Notification notification = new Notification();
                     notification.setType("STATUS_CHANGE_REQUEST");
-                    notification.setRequestedStatus(requestedStatus);
+                    notification.setRequestedStatus(targetStatus.name());
                     notification.setMessage("Staff " + currentUser.getName() + " requests to change complaint #" +
                             complaint.getComplaintNumber() + " (\"" + complaint.getTitle() +
-                            "\") from " + complaint.getStatus() + " to " + requestedStatus +
+                            "\") from " + complaint.getStatus() + " to " + targetStatus +
                             (comment != null ? ". Comment: " + comment : ""));
                     notification.setComplaintId(id);
                     notification.setCreatedBy(currentUser);
@@ -288,4 +643,71 @@ public class ComplaintController {
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    // ==================== List View Helpers ====================
+
+    /**
+     * Picks the representation for a complaint list endpoint:
+     * - fields=a,b,c : only the requested columns (sparse fieldset)
+     * - view=summary : number, title, status, category, priority and dates
+     * - view=dashboard : precomputed rows from the complaint_view read model
+     * - default      : full ComplaintResponse objects
+     * The list is only built if the client's If-None-Match tag is out of date.
+     */
+    private ResponseEntity<?> listView(ServletWebRequest request, String scopeKey, Specification<Complaint> scope,
+            String view, String fields,
+            Supplier<List<ComplaintSummary>> summaries, Supplier<List<ComplaintView>> dashboard,
+            Supplier<List<ComplaintResponse>> full) {
+        String etag = eTagService.forComplaints(request.getRequest(), scopeKey, scope);
+        return conditional(request, etag, () -> {
+            if (fields != null && !fields.isBlank()) {
+                return sparse(() -> complaintService.getComplaintFields(fields, scope));
+            }
+            if (VIEW_SUMMARY.equalsIgnoreCase(view)) {
+                return ResponseEntity.ok(summaries.get());
+            }
+            if (VIEW_DASHBOARD.equalsIgnoreCase(view)) {
+                return ResponseEntity.ok(dashboard.get());
+            }
+            return ResponseEntity.ok(full.get());
+        });
+    }
+
+    /**
+     * Answers 304 Not Modified when If-None-Match matches the ETag; otherwise
+     * builds the response. checkNotModified writes the ETag header either way.
+     */
+    private ResponseEntity<?> conditional(ServletWebRequest request, String etag,
+            Supplier<ResponseEntity<?>> response) {
+        if (etag != null && request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return response.get();
+    }
+
+    private ResponseEntity<?> sparse(Supplier<?> rows) {
+        try {
+            return ResponseEntity.ok(rows.get());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    private static boolean includesUpdates(String include) {
+        if (include == null) {
+            return false;
+        }
+        for (String part : include.split(",")) {
+            if (INCLUDE_UPDATES.equalsIgnoreCase(part.trim())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Another request saved the complaint between our read and our write - the client should reload and retry
+    private static ResponseEntity<?> concurrentUpdate(Long id) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                "message", "Complaint " + id + " was changed concurrently; reload it and try again"));
+    }
 }
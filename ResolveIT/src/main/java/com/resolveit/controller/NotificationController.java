@@ -2,10 +2,13 @@ package com.resolveit.controller;
 
 import com.resolveit.model.Notification;
 import com.resolveit.repository.NotificationRepository;
+import com.resolveit.service.ETagService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.HashMap;
 import java.util.List;
@@ -20,10 +23,17 @@ public class NotificationController {
     @Autowired
     private NotificationRepository notificationRepository;
 
+    @Autowired
+    private ETagService eTagService;
+
     // Get all notifications (for admin)
     @GetMapping
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
-    public ResponseEntity<List<Map<String, Object>>> getAllNotifications() {
+    public ResponseEntity<List<Map<String, Object>>> getAllNotifications(ServletWebRequest request) {
+        // Unchanged since the client's copy: 304 without loading the list
+        if (request.checkNotModified(eTagService.forAdminNotifications(request.getRequest()))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         List<Notification> notifications = notificationRepository.findAllByOrderByCreatedAtDesc();
 
         List<Map<String, Object>> response = notifications.stream().map(n -> {
@@ -46,7 +56,10 @@ public class NotificationController {
     // Get unread notification count
     @GetMapping("/unread-count")
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
-    public ResponseEntity<Map<String, Long>> getUnreadCount() {
+    public ResponseEntity<Map<String, Long>> getUnreadCount(ServletWebRequest request) {
+        if (request.checkNotModified(eTagService.forAdminNotifications(request.getRequest()))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         Long count = notificationRepository.countByIsReadFalse();
         Map<String, Long> response = new HashMap<>();
         response.put("count", count);
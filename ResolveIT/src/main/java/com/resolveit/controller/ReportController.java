@@ -1,28 +1,25 @@
 package com.resolveit.controller;
 
-import com.resolveit.model.Complaint;
+import com.resolveit.dto.ReportFilter;
+import com.resolveit.dto.ReportJob;
+import com.resolveit.dto.ReportJobRequest;
 import com.resolveit.model.ComplaintStatus;
-import com.resolveit.repository.ComplaintRepository;
-import com.itextpdf.kernel.pdf.PdfDocument;
-import com.itextpdf.kernel.pdf.PdfWriter;
-import com.itextpdf.layout.Document;
-import com.itextpdf.layout.element.Paragraph;
-import com.itextpdf.layout.element.Table;
-import com.itextpdf.layout.element.Cell;
-import com.itextpdf.layout.properties.TextAlignment;
-import com.itextpdf.layout.properties.UnitValue;
+import com.resolveit.service.ComplaintRollupService;
+import com.resolveit.service.ReportJobService;
+import com.resolveit.service.ReportService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayOutputStream;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/reports")
@@ -30,181 +27,124 @@ import java.util.stream.Collectors;
 public class ReportController {
 
     @Autowired
-    private ComplaintRepository complaintRepository;
+    private ReportService reportService;
 
-    // Get aggregated statistics
+    @Autowired
+    private ReportJobService reportJobService;
+
+    // Get aggregated statistics (live in-memory counters, see ComplaintStatsService)
     @GetMapping("/stats")
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
     public ResponseEntity<Map<String, Object>> getStats() {
-        List<Complaint> complaints = complaintRepository.findAll();
-
-        Map<String, Object> stats = new HashMap<>();
-
-        // Total counts
-        stats.put("totalComplaints", complaints.size());
-        stats.put("resolvedCount", complaints.stream().filter(c -> c.getStatus() == ComplaintStatus.RESOLVED).count());
-        stats.put("closedCount", complaints.stream().filter(c -> c.getStatus() == ComplaintStatus.CLOSED).count());
-        stats.put("pendingCount",
-                complaints.stream().filter(
-                        c -> c.getStatus() == ComplaintStatus.NEW || c.getStatus() == ComplaintStatus.UNDER_REVIEW)
-                        .count());
-        stats.put("escalatedCount", complaints.stream().filter(Complaint::isEscalated).count());
-
-        // By Status
-        Map<String, Long> byStatus = complaints.stream()
-                .collect(Collectors.groupingBy(c -> c.getStatus().name(), Collectors.counting()));
-        stats.put("byStatus", byStatus);
-
-        // By Category
-        Map<String, Long> byCategory = complaints.stream()
-                .collect(Collectors.groupingBy(Complaint::getCategory, Collectors.counting()));
-        stats.put("byCategory", byCategory);
-
-        // By Priority
-        Map<String, Long> byPriority = complaints.stream()
-                .collect(Collectors.groupingBy(Complaint::getPriority, Collectors.counting()));
-        stats.put("byPriority", byPriority);
-
-        return ResponseEntity.ok(stats);
+        return ResponseEntity.ok(reportService.getStats());
     }
 
-    // Get trends over time (last 30 days)
+    // Get trends over time from the daily rollup (default: last 30 days, one point per day)
     @GetMapping("/trends")
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
-    public ResponseEntity<List<Map<String, Object>>> getTrends() {
-        List<Complaint> complaints = complaintRepository.findAll();
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-
-        // Group by date
-        Map<String, Long> byDate = complaints.stream()
-                .filter(c -> c.getCreatedAt().isAfter(thirtyDaysAgo))
-                .collect(Collectors.groupingBy(
-                        c -> c.getCreatedAt().toLocalDate().toString(),
-                        Collectors.counting()));
-
-        // Convert to list of objects for chart
-        List<Map<String, Object>> trends = byDate.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .map(entry -> {
-                    Map<String, Object> point = new HashMap<>();
-                    point.put("date", entry.getKey());
-                    point.put("count", entry.getValue());
-                    return point;
-                })
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(trends);
+    public ResponseEntity<?> getTrends(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "30") int days,
+            @RequestParam(defaultValue = "day") String bucket,
+            @RequestParam(required = false) ComplaintStatus status,
+            @RequestParam(required = false) String category) {
+        try {
+            LocalDate end = to != null ? to : LocalDate.now();
+            LocalDate start = from != null ? from : end.minusDays(days);
+            ComplaintRollupService.Bucket size = ComplaintRollupService.Bucket.valueOf(bucket.toUpperCase());
+            return ResponseEntity.ok(reportService.getTrends(start, end, size, status, category));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
     }
 
-    // Export complaints as CSV
-    @GetMapping("/export/csv")
+    // Regenerate complaint_daily_rollup from the complaints table
+    @PostMapping("/trends/backfill")
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
-    public ResponseEntity<byte[]> exportCsv() {
-        List<Complaint> complaints = complaintRepository.findAll();
-
-        StringBuilder csv = new StringBuilder();
-        csv.append("Complaint Number,Title,Category,Priority,Status,Created By,Assigned To,Created At,Escalated\n");
-
-        DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
-
-        for (Complaint c : complaints) {
-            csv.append(String.format("\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\"\n",
-                    c.getComplaintNumber(),
-                    c.getTitle().replace("\"", "\"\""),
-                    c.getCategory(),
-                    c.getPriority(),
-                    c.getStatus().name(),
-                    c.getCreatedBy() != null ? c.getCreatedBy().getEmail() : "N/A",
-                    c.getAssignedTo() != null ? c.getAssignedTo().getEmail() : "Unassigned",
-                    c.getCreatedAt().format(fmt),
-                    c.isEscalated() ? "Yes" : "No"));
-        }
+    public ResponseEntity<Map<String, Object>> backfillTrends() {
+        int rows = reportService.rebuildTrends();
+        return ResponseEntity.ok(Map.of("message", "Trend rollup rebuilt", "rows", rows));
+    }
 
-        byte[] csvBytes = csv.toString().getBytes();
+    // Export complaints as CSV, streamed (gzip=true for a .csv.gz download; optional ReportFilter parameters)
+    @GetMapping("/export/csv")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportCsv(@RequestParam(defaultValue = "false") boolean gzip,
+            ReportFilter filter) {
+        StreamingResponseBody body = out -> reportService.writeCsv(out, gzip, filter);
 
         HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType("text/csv"));
-        headers.setContentDispositionFormData("attachment", "complaints_report.csv");
+        if (gzip) {
+            headers.setContentType(MediaType.parseMediaType("application/gzip"));
+            headers.setContentDispositionFormData("attachment", "complaints_report.csv.gz");
+        } else {
+            headers.setContentType(MediaType.parseMediaType("text/csv; charset=UTF-8"));
+            headers.setContentDispositionFormData("attachment", "complaints_report.csv");
+        }
 
-        return ResponseEntity.ok().headers(headers).body(csvBytes);
+        return ResponseEntity.ok().headers(headers).body(body);
     }
 
-    // Export complaints as PDF
+    // Export complaints as PDF, streamed page by page
     @GetMapping("/export/pdf")
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
-    public ResponseEntity<byte[]> exportPdf() {
-        List<Complaint> complaints = complaintRepository.findAll();
-
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            PdfWriter writer = new PdfWriter(baos);
-            PdfDocument pdf = new PdfDocument(writer);
-            Document document = new Document(pdf);
-
-            // Title
-            Paragraph title = new Paragraph("ResolveIT - Complaints Report")
-                    .setFontSize(20)
-                    .setBold()
-                    .setTextAlignment(TextAlignment.CENTER);
-            document.add(title);
-
-            // Date
-            Paragraph date = new Paragraph(
-                    "Generated: " + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")))
-                    .setFontSize(10)
-                    .setTextAlignment(TextAlignment.CENTER);
-            document.add(date);
-
-            document.add(new Paragraph("\n"));
-
-            // Summary stats
-            long resolved = complaints.stream().filter(c -> c.getStatus() == ComplaintStatus.RESOLVED).count();
-            long pending = complaints.stream()
-                    .filter(c -> c.getStatus() == ComplaintStatus.NEW || c.getStatus() == ComplaintStatus.UNDER_REVIEW)
-                    .count();
-            long escalated = complaints.stream().filter(Complaint::isEscalated).count();
-
-            document.add(new Paragraph("Summary: Total: " + complaints.size() + " | Resolved: " + resolved
-                    + " | Pending: " + pending + " | Escalated: " + escalated));
-            document.add(new Paragraph("\n"));
-
-            // Table
-            Table table = new Table(UnitValue.createPercentArray(new float[] { 15, 25, 15, 10, 15, 20 }))
-                    .setWidth(UnitValue.createPercentValue(100));
-
-            // Header
-            table.addHeaderCell(new Cell().add(new Paragraph("ID").setBold()));
-            table.addHeaderCell(new Cell().add(new Paragraph("Title").setBold()));
-            table.addHeaderCell(new Cell().add(new Paragraph("Category").setBold()));
-            table.addHeaderCell(new Cell().add(new Paragraph("Priority").setBold()));
-            table.addHeaderCell(new Cell().add(new Paragraph("Status").setBold()));
-            table.addHeaderCell(new Cell().add(new Paragraph("Created").setBold()));
-
-            DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
-            for (Complaint c : complaints) {
-                table.addCell(new Cell().add(new Paragraph(c.getComplaintNumber())));
-                table.addCell(new Cell().add(new Paragraph(
-                        c.getTitle().length() > 30 ? c.getTitle().substring(0, 30) + "..." : c.getTitle())));
-                table.addCell(new Cell().add(new Paragraph(c.getCategory())));
-                table.addCell(new Cell().add(new Paragraph(c.getPriority())));
-                table.addCell(new Cell().add(new Paragraph(c.getStatus().name())));
-                table.addCell(new Cell().add(new Paragraph(c.getCreatedAt().format(fmt))));
-            }
+    public ResponseEntity<StreamingResponseBody> exportPdf(ReportFilter filter) {
+        StreamingResponseBody body = out -> reportService.writePdf(out, filter);
 
-            document.add(table);
-            document.close();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.setContentDispositionFormData("attachment", "complaints_report.pdf");
 
-            byte[] pdfBytes = baos.toByteArray();
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_PDF);
-            headers.setContentDispositionFormData("attachment", "complaints_report.pdf");
+    /**
+     * Queues a CSV or PDF export in the background. Returns 202 with the job,
+     * or 200 when an identical report was generated recently and can be
+     * downloaded right away. Poll /jobs/{jobId}, then fetch /jobs/{jobId}/download.
+     */
+    @PostMapping("/jobs")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<?> submitReportJob(@RequestBody ReportJobRequest request) {
+        try {
+            ReportJob job = reportJobService.submit(request);
+            if (job.getState() == ReportJob.State.COMPLETED) {
+                return ResponseEntity.ok(job);
+            }
+            return ResponseEntity.accepted().body(job);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("message", e.getMessage()));
+        }
+    }
 
-            return ResponseEntity.ok().headers(headers).body(pdfBytes);
+    @GetMapping("/jobs/{jobId}")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<?> getReportJob(@PathVariable String jobId) {
+        return reportJobService.getJob(jobId)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
 
-        } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.internalServerError().build();
+    @GetMapping("/jobs/{jobId}/download")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<?> downloadReportJob(@PathVariable String jobId) {
+        Optional<ReportJob> found = reportJobService.getJob(jobId);
+        if (found.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        ReportJob job = found.get();
+        if (job.getState() != ReportJob.State.COMPLETED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("message", "Report is not ready", "state", job.getState()));
         }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(job.getContentType()));
+        headers.setContentDispositionFormData("attachment", job.getFileName());
+
+        return ResponseEntity.ok().headers(headers).body(new FileSystemResource(job.getArtifact()));
     }
 }
@@ -3,11 +3,14 @@ package com.resolveit.controller;
 import com.resolveit.model.UserNotification;
 import com.resolveit.repository.UserNotificationRepository;
 import com.resolveit.repository.UserRepository;
+import com.resolveit.service.ETagService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.HashMap;
 import java.util.List;
@@ -25,14 +28,22 @@ public class UserNotificationController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ETagService eTagService;
+
     // Get all notifications for current user
     @GetMapping
     @PreAuthorize("hasAnyAuthority('ROLE_USER', 'ROLE_ADMIN', 'ROLE_STAFF')")
-    public ResponseEntity<List<Map<String, Object>>> getUserNotifications(Authentication authentication) {
+    public ResponseEntity<List<Map<String, Object>>> getUserNotifications(Authentication authentication,
+            ServletWebRequest request) {
         String username = authentication.getName();
 
         return userRepository.findByEmail(username)
                 .map(user -> {
+                    // Unchanged since the client's copy: 304 without loading the list
+                    if (request.checkNotModified(eTagService.forUserNotifications(request.getRequest(), user.getId()))) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).<List<Map<String, Object>>>build();
+                    }
                     List<UserNotification> notifications = userNotificationRepository
                             .findByUserIdOrderByCreatedAtDesc(user.getId());
 
@@ -55,11 +66,15 @@ public class UserNotificationController {
     // Get unread notification count
     @GetMapping("/unread-count")
     @PreAuthorize("hasAnyAuthority('ROLE_USER', 'ROLE_ADMIN', 'ROLE_STAFF')")
-    public ResponseEntity<Map<String, Long>> getUnreadCount(Authentication authentication) {
+    public ResponseEntity<Map<String, Long>> getUnreadCount(Authentication authentication,
+            ServletWebRequest request) {
         String username = authentication.getName();
 
         return userRepository.findByEmail(username)
                 .map(user -> {
+                    if (request.checkNotModified(eTagService.forUserNotifications(request.getRequest(), user.getId()))) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).<Map<String, Long>>build();
+                    }
                     Long count = userNotificationRepository.countByUserIdAndIsReadFalse(user.getId());
                     Map<String, Long> response = new HashMap<>();
                     response.put("count", count);
@@ -0,0 +1,118 @@
+package com.resolveit.dto;
+
+import com.resolveit.model.ComplaintStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk assignment request. Either:
+ * - assignments: explicit complaint IDs per assignee, or
+ * - filter + assigneeIds: every complaint matching the filter, spread
+ *   round-robin across the given assignees
+ */
+public class BulkAssignRequest {
+    private List<Assignment> assignments = new ArrayList<>();
+    private Filter filter;
+    private List<Long> assigneeIds = new ArrayList<>();
+
+    // Getters and Setters
+    public List<Assignment> getAssignments() {
+        return assignments;
+    }
+
+    public void setAssignments(List<Assignment> assignments) {
+        this.assignments = assignments;
+    }
+
+    public Filter getFilter() {
+        return filter;
+    }
+
+    public void setFilter(Filter filter) {
+        this.filter = filter;
+    }
+
+    public List<Long> getAssigneeIds() {
+        return assigneeIds;
+    }
+
+    public void setAssigneeIds(List<Long> assigneeIds) {
+        this.assigneeIds = assigneeIds;
+    }
+
+    public static class Assignment {
+        private Long assigneeId;
+        private List<Long> complaintIds = new ArrayList<>();
+
+        public Long getAssigneeId() {
+            return assigneeId;
+        }
+
+        public void setAssigneeId(Long assigneeId) {
+            this.assigneeId = assigneeId;
+        }
+
+        public List<Long> getComplaintIds() {
+            return complaintIds;
+        }
+
+        public void setComplaintIds(List<Long> complaintIds) {
+            this.complaintIds = complaintIds;
+        }
+    }
+
+    public static class Filter {
+        private String status;
+        private String category;
+        private String priority;
+        private boolean unassignedOnly;
+
+        public ComplaintStatus getStatus() {
+            if (status == null || status.trim().isEmpty()) {
+                return null;
+            }
+            try {
+                return ComplaintStatus.valueOf(status.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid status: " + status, e);
+            }
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public void setCategory(String category) {
+            this.category = category;
+        }
+
+        public String getPriority() {
+            return priority;
+        }
+
+        public void setPriority(String priority) {
+            this.priority = priority;
+        }
+
+        // True when at least one field narrows the selection
+        public boolean hasCriteria() {
+            return getStatus() != null
+                    || (category != null && !category.isBlank())
+                    || (priority != null && !priority.isBlank())
+                    || unassignedOnly;
+        }
+
+        public boolean isUnassignedOnly() {
+            return unassignedOnly;
+        }
+
+        public void setUnassignedOnly(boolean unassignedOnly) {
+            this.unassignedOnly = unassignedOnly;
+        }
+    }
+}
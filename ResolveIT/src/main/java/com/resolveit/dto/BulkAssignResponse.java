@@ -0,0 +1,50 @@
+package com.resolveit.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact result of a bulk assignment: counts per assignee and the IDs that
+ * could not be assigned. No complaint DTOs are built.
+ */
+public class BulkAssignResponse {
+    private int requested;
+    private int assigned;
+    private Map<Long, Integer> assignedPerUser = new LinkedHashMap<>();
+    private List<Long> notFound = new ArrayList<>();
+
+    // Getters and Setters
+    public int getRequested() {
+        return requested;
+    }
+
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+
+    public int getAssigned() {
+        return assigned;
+    }
+
+    public void setAssigned(int assigned) {
+        this.assigned = assigned;
+    }
+
+    public Map<Long, Integer> getAssignedPerUser() {
+        return assignedPerUser;
+    }
+
+    public void setAssignedPerUser(Map<Long, Integer> assignedPerUser) {
+        this.assignedPerUser = assignedPerUser;
+    }
+
+    public List<Long> getNotFound() {
+        return notFound;
+    }
+
+    public void setNotFound(List<Long> notFound) {
+        this.notFound = notFound;
+    }
+}
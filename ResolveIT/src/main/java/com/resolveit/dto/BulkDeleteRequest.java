@@ -0,0 +1,31 @@
+package com.resolveit.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk delete request. Either explicit complaint IDs, or a filter selecting
+ * every matching complaint (same filter fields as bulk assignment) - never
+ * both. The filter must set at least one criterion.
+ */
+public class BulkDeleteRequest {
+    private List<Long> ids = new ArrayList<>();
+    private BulkAssignRequest.Filter filter;
+
+    // Getters and Setters
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public BulkAssignRequest.Filter getFilter() {
+        return filter;
+    }
+
+    public void setFilter(BulkAssignRequest.Filter filter) {
+        this.filter = filter;
+    }
+}
@@ -0,0 +1,98 @@
+package com.resolveit.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk complaint operation: totals plus one entry per requested ID.
+ */
+public class BulkOperationResponse {
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<Result> results = new ArrayList<>();
+
+    public void addSuccess(Long id) {
+        results.add(new Result(id, true, null));
+        requested++;
+        succeeded++;
+    }
+
+    public void addFailure(Long id, String message) {
+        results.add(new Result(id, false, message));
+        requested++;
+        failed++;
+    }
+
+    // Getters and Setters
+    public int getRequested() {
+        return requested;
+    }
+
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<Result> getResults() {
+        return results;
+    }
+
+    public void setResults(List<Result> results) {
+        this.results = results;
+    }
+
+    public static class Result {
+        private Long id;
+        private boolean success;
+        private String message;
+
+        public Result() {
+        }
+
+        public Result(Long id, boolean success, String message) {
+            this.id = id;
+            this.success = success;
+            this.message = message;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public void setSuccess(boolean success) {
+            this.success = success;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.resolveit.dto;
+
+import com.resolveit.model.ComplaintStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public class BulkStatusUpdateRequest {
+    @NotEmpty
+    private List<Long> ids;
+    @NotNull
+    private String status;
+    private String comments;
+
+    // Getters and Setters
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public ComplaintStatus getStatus() {
+        if (status == null || status.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return ComplaintStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status: " + status, e);
+        }
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getComments() {
+        return comments;
+    }
+
+    public void setComments(String comments) {
+        this.comments = comments;
+    }
+}
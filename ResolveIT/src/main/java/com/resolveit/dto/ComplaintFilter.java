@@ -0,0 +1,93 @@
+package com.resolveit.dto;
+
+import com.resolveit.model.ComplaintStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filter for GET /api/complaints/filter, bound from query parameters.
+ * List parameters accept several values (status=NEW,UNDER_REVIEW); values of
+ * one dimension are ORed, dimensions are ANDed. The date range is inclusive.
+ */
+public class ComplaintFilter {
+    private List<ComplaintStatus> status = new ArrayList<>();
+    private List<String> category = new ArrayList<>();
+    private List<String> priority = new ArrayList<>();
+    private Boolean escalated;
+    private List<Long> assigneeId = new ArrayList<>();
+    private boolean unassigned;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdTo;
+
+    // Getters and Setters
+    public List<ComplaintStatus> getStatus() {
+        return status;
+    }
+
+    public void setStatus(List<ComplaintStatus> status) {
+        this.status = status;
+    }
+
+    public List<String> getCategory() {
+        return category;
+    }
+
+    public void setCategory(List<String> category) {
+        this.category = category;
+    }
+
+    public List<String> getPriority() {
+        return priority;
+    }
+
+    public void setPriority(List<String> priority) {
+        this.priority = priority;
+    }
+
+    public Boolean getEscalated() {
+        return escalated;
+    }
+
+    public void setEscalated(Boolean escalated) {
+        this.escalated = escalated;
+    }
+
+    public List<Long> getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(List<Long> assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    public boolean isUnassigned() {
+        return unassigned;
+    }
+
+    public void setUnassigned(boolean unassigned) {
+        this.unassigned = unassigned;
+    }
+
+    public LocalDate getCreatedFrom() {
+        return createdFrom;
+    }
+
+    public void setCreatedFrom(LocalDate createdFrom) {
+        this.createdFrom = createdFrom;
+    }
+
+    public LocalDate getCreatedTo() {
+        return createdTo;
+    }
+
+    public void setCreatedTo(LocalDate createdTo) {
+        this.createdTo = createdTo;
+    }
+}
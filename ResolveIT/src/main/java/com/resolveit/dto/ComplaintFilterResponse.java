@@ -0,0 +1,71 @@
+package com.resolveit.dto;
+
+import com.resolveit.model.ComplaintView;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of filtered complaints plus facet counts. Each facet counts the
+ * complaints matching every filter except the facet's own dimension, so the
+ * client can show how many results each alternative value would give.
+ */
+public class ComplaintFilterResponse {
+    private List<ComplaintView> content = new ArrayList<>();
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    private Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+
+    // Getters and Setters
+    public List<ComplaintView> getContent() {
+        return content;
+    }
+
+    public void setContent(List<ComplaintView> content) {
+        this.content = content;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public long getTotalElements() {
+        return totalElements;
+    }
+
+    public void setTotalElements(long totalElements) {
+        this.totalElements = totalElements;
+    }
+
+    public int getTotalPages() {
+        return totalPages;
+    }
+
+    public void setTotalPages(int totalPages) {
+        this.totalPages = totalPages;
+    }
+
+    public Map<String, Map<String, Long>> getFacets() {
+        return facets;
+    }
+
+    public void setFacets(Map<String, Map<String, Long>> facets) {
+        this.facets = facets;
+    }
+}
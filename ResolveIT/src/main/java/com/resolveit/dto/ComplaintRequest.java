@@ -1,11 +1,28 @@
 package com.resolveit.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.Default;
 
 public class ComplaintRequest {
+    // Required fields are only enforced for new complaints; updates may be partial
+    public interface OnCreate extends Default {
+    }
+
+    @NotBlank(groups = OnCreate.class)
+    @Size(max = 100)
     private String title;
+
+    @NotBlank(groups = OnCreate.class)
     private String description;
+
+    @NotBlank(groups = OnCreate.class)
+    @Size(max = 50)
     private String category;
+
+    @NotBlank(groups = OnCreate.class)
+    @Size(max = 20)
     private String priority;
 
     @JsonProperty("anonymous")
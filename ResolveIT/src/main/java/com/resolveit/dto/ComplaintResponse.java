@@ -1,5 +1,6 @@
 package com.resolveit.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.resolveit.model.ComplaintStatus;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -20,6 +21,8 @@ public class ComplaintResponse {
     private List<AttachmentResponse> attachments = new ArrayList<>();
     private boolean anonymous;
     private String lastAdminComment;
+    // Full update history; only filled when explicitly requested (include=updates)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<ComplaintUpdateResponse> updates = new ArrayList<>();
     private boolean escalated;
     private LocalDateTime escalatedAt;
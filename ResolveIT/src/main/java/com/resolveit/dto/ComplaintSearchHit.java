@@ -0,0 +1,73 @@
+package com.resolveit.dto;
+
+import com.resolveit.model.ComplaintStatus;
+
+/**
+ * One search result, served from the fields stored in the search index.
+ */
+public class ComplaintSearchHit {
+    private Long id;
+    private String complaintNumber;
+    private String title;
+    private ComplaintStatus status;
+    private String category;
+    private String priority;
+    private float score;
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getComplaintNumber() {
+        return complaintNumber;
+    }
+
+    public void setComplaintNumber(String complaintNumber) {
+        this.complaintNumber = complaintNumber;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public ComplaintStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ComplaintStatus status) {
+        this.status = status;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public String getPriority() {
+        return priority;
+    }
+
+    public void setPriority(String priority) {
+        this.priority = priority;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public void setScore(float score) {
+        this.score = score;
+    }
+}
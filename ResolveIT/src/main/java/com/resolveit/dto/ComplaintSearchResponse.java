@@ -0,0 +1,75 @@
+package com.resolveit.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of search results, ordered by relevance. totalHits is exact up to
+ * the 10,000 result window; when totalHitsExact is false it is a lower bound.
+ */
+public class ComplaintSearchResponse {
+    private String query;
+    private long totalHits;
+    private boolean totalHitsExact;
+    private int page;
+    private int size;
+    private long tookMs;
+    private List<ComplaintSearchHit> hits = new ArrayList<>();
+
+    // Getters and Setters
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public long getTotalHits() {
+        return totalHits;
+    }
+
+    public void setTotalHits(long totalHits) {
+        this.totalHits = totalHits;
+    }
+
+    public boolean isTotalHitsExact() {
+        return totalHitsExact;
+    }
+
+    public void setTotalHitsExact(boolean totalHitsExact) {
+        this.totalHitsExact = totalHitsExact;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public long getTookMs() {
+        return tookMs;
+    }
+
+    public void setTookMs(long tookMs) {
+        this.tookMs = tookMs;
+    }
+
+    public List<ComplaintSearchHit> getHits() {
+        return hits;
+    }
+
+    public void setHits(List<ComplaintSearchHit> hits) {
+        this.hits = hits;
+    }
+}
@@ -0,0 +1,48 @@
+package com.resolveit.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One keyset page of complaints. Unlike Page, it carries no total count -
+ * only whether another page exists and the cursor to fetch it.
+ */
+public class ComplaintSliceResponse {
+    private List<ComplaintResponse> content = new ArrayList<>();
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    // Getters and Setters
+    public List<ComplaintResponse> getContent() {
+        return content;
+    }
+
+    public void setContent(List<ComplaintResponse> content) {
+        this.content = content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
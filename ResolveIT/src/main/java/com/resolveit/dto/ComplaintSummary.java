@@ -0,0 +1,28 @@
+package com.resolveit.dto;
+
+import com.resolveit.model.ComplaintStatus;
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight complaint projection for list screens (view=summary).
+ * Only these columns are selected - no description, attachments or updates.
+ */
+public interface ComplaintSummary {
+    Long getId();
+
+    String getComplaintNumber();
+
+    String getTitle();
+
+    ComplaintStatus getStatus();
+
+    String getCategory();
+
+    String getPriority();
+
+    boolean isEscalated();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,39 @@
+package com.resolveit.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One window of a complaint's timeline, newest entry first. latestId is the
+ * cursor for the next incremental poll (?since=latestId).
+ */
+public class ComplaintTimelineResponse {
+    private List<ComplaintUpdateResponse> entries = new ArrayList<>();
+    private Long latestId;
+    private boolean hasMore;
+
+    // Getters and Setters
+    public List<ComplaintUpdateResponse> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<ComplaintUpdateResponse> entries) {
+        this.entries = entries;
+    }
+
+    public Long getLatestId() {
+        return latestId;
+    }
+
+    public void setLatestId(Long latestId) {
+        this.latestId = latestId;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
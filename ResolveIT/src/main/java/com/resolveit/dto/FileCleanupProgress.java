@@ -0,0 +1,74 @@
+package com.resolveit.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a background upload-file cleanup. The job is queued when the
+ * deleting transaction commits (PENDING until then) and written by the
+ * cleanup thread afterwards.
+ */
+public class FileCleanupProgress {
+
+    public enum State {
+        PENDING, RUNNING, COMPLETED, CANCELLED
+    }
+
+    private final String jobId;
+    private final long total;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile State state = State.PENDING;
+    private volatile long deleted;
+    private volatile long failed;
+    private volatile LocalDateTime finishedAt;
+
+    public FileCleanupProgress(String jobId, long total) {
+        this.jobId = jobId;
+        this.total = total;
+    }
+
+    public void start() {
+        this.state = State.RUNNING;
+    }
+
+    public void fileDone(boolean success) {
+        if (success) {
+            deleted++;
+        } else {
+            failed++;
+        }
+    }
+
+    public void finish(State state) {
+        this.finishedAt = LocalDateTime.now();
+        this.state = state;
+    }
+
+    // Getters
+    public String getJobId() {
+        return jobId;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public long getDeleted() {
+        return deleted;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+}
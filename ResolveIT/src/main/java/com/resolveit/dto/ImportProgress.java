@@ -0,0 +1,119 @@
+package com.resolveit.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Progress of a complaint import job. Written by the import thread, read by
+ * the status endpoint.
+ */
+public class ImportProgress {
+
+    public enum State {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    // Only the first rejected rows are kept, so a bad file cannot grow the report unbounded
+    private static final int MAX_ERRORS = 100;
+
+    private final String jobId;
+    private final String fileName;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private volatile State state = State.RUNNING;
+    private volatile long rowsRead;
+    private volatile long imported;
+    private volatile long skipped;
+    private volatile String message;
+    private volatile LocalDateTime finishedAt;
+    private final List<RowError> errors = new ArrayList<>();
+
+    public ImportProgress(String jobId, String fileName) {
+        this.jobId = jobId;
+        this.fileName = fileName;
+    }
+
+    public void rowRead() {
+        rowsRead++;
+    }
+
+    public void imported(int count) {
+        imported += count;
+    }
+
+    public void skip(long row, String reason) {
+        skipped++;
+        synchronized (errors) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(new RowError(row, reason));
+            }
+        }
+    }
+
+    public void finish(State state, String message) {
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+        this.state = state;
+    }
+
+    // Getters
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public List<RowError> getErrors() {
+        synchronized (errors) {
+            return new ArrayList<>(errors);
+        }
+    }
+
+    public static class RowError {
+        private final long row;
+        private final String reason;
+
+        public RowError(long row, String reason) {
+            this.row = row;
+            this.reason = reason;
+        }
+
+        public long getRow() {
+            return row;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.resolveit.dto;
+
+import com.resolveit.model.ComplaintStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Optional filter for the report exports and report jobs. Empty fields match
+ * everything; the creation date range is inclusive.
+ */
+public class ReportFilter {
+    private ComplaintStatus status;
+    private String category;
+    private String priority;
+    private Boolean escalated;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdTo;
+
+    /**
+     * Canonical form of the filter, used to recognise identical report requests.
+     */
+    public String cacheKey() {
+        return status + "|" + blankToNull(category) + "|" + blankToNull(priority) + "|" + escalated
+                + "|" + createdFrom + "|" + createdTo;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+
+    // Getters and Setters
+    public ComplaintStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ComplaintStatus status) {
+        this.status = status;
+    }
+
+    public String getCategory() {
+        return blankToNull(category);
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public String getPriority() {
+        return blankToNull(priority);
+    }
+
+    public void setPriority(String priority) {
+        this.priority = priority;
+    }
+
+    public Boolean getEscalated() {
+        return escalated;
+    }
+
+    public void setEscalated(Boolean escalated) {
+        this.escalated = escalated;
+    }
+
+    public LocalDate getCreatedFrom() {
+        return createdFrom;
+    }
+
+    public void setCreatedFrom(LocalDate createdFrom) {
+        this.createdFrom = createdFrom;
+    }
+
+    public LocalDate getCreatedTo() {
+        return createdTo;
+    }
+
+    public void setCreatedTo(LocalDate createdTo) {
+        this.createdTo = createdTo;
+    }
+}
@@ -0,0 +1,101 @@
+package com.resolveit.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * A report export generated in the background. Written by the report worker
+ * thread; once COMPLETED the artifact can be downloaded until it is evicted.
+ */
+public class ReportJob {
+
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String jobId;
+    private final String fileName;
+    private final String contentType;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile State state = State.QUEUED;
+    private volatile LocalDateTime finishedAt;
+    private volatile long sizeBytes;
+    private volatile String message;
+
+    @JsonIgnore
+    private final String cacheKey;
+
+    @JsonIgnore
+    private volatile Path artifact;
+
+    public ReportJob(String jobId, String fileName, String contentType, String cacheKey) {
+        this.jobId = jobId;
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.cacheKey = cacheKey;
+    }
+
+    public void start() {
+        this.state = State.RUNNING;
+    }
+
+    public void complete(Path artifact, long sizeBytes) {
+        this.artifact = artifact;
+        this.sizeBytes = sizeBytes;
+        this.finishedAt = LocalDateTime.now();
+        this.state = State.COMPLETED;
+    }
+
+    public void fail(String message) {
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+        this.state = State.FAILED;
+    }
+
+    public boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+
+    // Getters
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getCacheKey() {
+        return cacheKey;
+    }
+
+    public Path getArtifact() {
+        return artifact;
+    }
+}
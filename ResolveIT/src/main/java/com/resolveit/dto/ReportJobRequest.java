@@ -0,0 +1,45 @@
+package com.resolveit.dto;
+
+/**
+ * Request body for POST /api/reports/jobs. Format is "csv" or "pdf"; gzip
+ * only applies to CSV.
+ */
+public class ReportJobRequest {
+    private String format = "csv";
+    private boolean gzip;
+    private ReportFilter filter;
+
+    /**
+     * Canonical form of the request; identical requests share one artifact.
+     */
+    public String cacheKey() {
+        String name = format == null ? null : format.trim().toLowerCase();
+        boolean compressed = gzip && "csv".equals(name);
+        return name + "|" + compressed + "|" + (filter != null ? filter : new ReportFilter()).cacheKey();
+    }
+
+    // Getters and Setters
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    public void setGzip(boolean gzip) {
+        this.gzip = gzip;
+    }
+
+    public ReportFilter getFilter() {
+        return filter;
+    }
+
+    public void setFilter(ReportFilter filter) {
+        this.filter = filter;
+    }
+}
@@ -7,6 +7,8 @@ public class StatusUpdateRequest {
     @NotNull
     private String status;
     private String comments;
+    // Optional: the status the client last saw; the change is rejected with 409 if it has moved on
+    private String expectedStatus;
 
     // Getters and Setters
     public ComplaintStatus getStatus() {
@@ -38,6 +40,21 @@ public class StatusUpdateRequest {
 
     private String assignedToEmail;
 
+    public ComplaintStatus getExpectedStatus() {
+        if (expectedStatus == null || expectedStatus.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return ComplaintStatus.valueOf(expectedStatus.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid expected status: " + expectedStatus, e);
+        }
+    }
+
+    public void setExpectedStatus(String expectedStatus) {
+        this.expectedStatus = expectedStatus;
+    }
+
     public String getAssignedToEmail() {
         return assignedToEmail;
     }
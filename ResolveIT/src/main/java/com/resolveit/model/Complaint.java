@@ -18,6 +18,7 @@ import java.util.Set;
  * - priority: Urgency level (Low, Medium, High, Critical)
  * - isAnonymous: Whether submitter identity is hidden
  * - isEscalated: Flag indicating urgent/escalated complaint
+ * - version: Optimistic lock counter, bumped on every change (used for ETags)
  * 
  * Relationships:
  * - createdBy: User who submitted the complaint
@@ -27,7 +28,10 @@ import java.util.Set;
  * - attachments: Uploaded files (images, PDFs)
  */
 @Entity
-@Table(name = "complaints")
+@Table(name = "complaints", indexes = {
+        @Index(name = "idx_complaints_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_complaints_status_created_at_id", columnList = "status, created_at, id")
+})
 public class Complaint {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -75,6 +79,10 @@ public class Complaint {
     @Column(name = "escalated_at")
     private LocalDateTime escalatedAt;
 
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
     @OneToMany(mappedBy = "complaint", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Comment> comments = new HashSet<>();
 
@@ -222,6 +230,14 @@ public class Complaint {
         this.escalatedAt = escalatedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     // Helper methods
     public void addComment(Comment comment) {
         comments.add(comment);
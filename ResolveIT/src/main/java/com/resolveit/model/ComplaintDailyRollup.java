@@ -0,0 +1,78 @@
+package com.resolveit.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+/**
+ * ComplaintDailyRollup - Pre-aggregated complaint counts for trend reports
+ *
+ * Database Table: complaint_daily_rollup
+ *
+ * One row per creation day x current status x category, holding the number
+ * of complaints created that day that are now in that status. Kept current
+ * by the complaint write paths (see ComplaintRollupService) and rebuilt from
+ * the complaints table by the backfill.
+ */
+@Entity
+@Table(name = "complaint_daily_rollup", uniqueConstraints = @UniqueConstraint(
+        name = "uk_complaint_daily_rollup", columnNames = { "rollup_day", "status", "category" }))
+public class ComplaintDailyRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "rollup_day", nullable = false)
+    private LocalDate rollupDay;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ComplaintStatus status;
+
+    @Column(nullable = false, length = 50)
+    private String category;
+
+    @Column(name = "complaint_count", nullable = false)
+    private long complaintCount;
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDate getRollupDay() {
+        return rollupDay;
+    }
+
+    public void setRollupDay(LocalDate rollupDay) {
+        this.rollupDay = rollupDay;
+    }
+
+    public ComplaintStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ComplaintStatus status) {
+        this.status = status;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public long getComplaintCount() {
+        return complaintCount;
+    }
+
+    public void setComplaintCount(long complaintCount) {
+        this.complaintCount = complaintCount;
+    }
+}
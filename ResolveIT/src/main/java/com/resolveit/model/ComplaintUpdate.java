@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "complaint_updates")
+@Table(name = "complaint_updates", indexes = {
+        @Index(name = "idx_complaint_updates_complaint_updated", columnList = "complaint_id, updated_at")
+})
 public class ComplaintUpdate {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
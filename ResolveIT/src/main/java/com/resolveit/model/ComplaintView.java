@@ -0,0 +1,236 @@
+package com.resolveit.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * ComplaintView Entity - Denormalised read model for dashboards
+ *
+ * Database Table: complaint_view
+ *
+ * One row per complaint holding everything the admin and staff dashboards
+ * show, so list screens read a single indexed table instead of joining
+ * complaints, users, attachments and complaint_updates:
+ * - ownerDisplayName: submitter name, or "Anonymous"
+ * - assigneeUsername: staff member handling the complaint
+ * - attachmentCount / lastAdminComment / latestUpdateAt: derived from child tables
+ *
+ * Rows are written by ComplaintViewService inside the same transactions that
+ * change the source tables, and can be regenerated with a rebuild.
+ */
+@Entity
+@Table(name = "complaint_view", indexes = {
+        @Index(name = "idx_complaint_view_owner", columnList = "owner_id"),
+        @Index(name = "idx_complaint_view_assignee", columnList = "assignee_id"),
+        @Index(name = "idx_complaint_view_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_complaint_view_created", columnList = "created_at"),
+        // Composite indexes for the faceted filter: equality dimension first, then status and date range
+        @Index(name = "idx_complaint_view_category_status_created", columnList = "category, status, created_at"),
+        @Index(name = "idx_complaint_view_priority_status_created", columnList = "priority, status, created_at"),
+        @Index(name = "idx_complaint_view_escalated_status_created", columnList = "is_escalated, status, created_at"),
+        @Index(name = "idx_complaint_view_assignee_status_created", columnList = "assignee_id, status, created_at")
+})
+public class ComplaintView {
+    // Same value as complaints.id
+    @Id
+    private Long id;
+
+    @Column(name = "complaint_number", nullable = false, length = 20)
+    private String complaintNumber;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ComplaintStatus status;
+
+    @Column(nullable = false, length = 50)
+    private String category;
+
+    @Column(nullable = false, length = 20)
+    private String priority;
+
+    @Column(name = "is_anonymous", nullable = false)
+    private boolean anonymous;
+
+    @Column(name = "is_escalated", nullable = false)
+    private boolean escalated;
+
+    @Column(name = "escalated_at")
+    private LocalDateTime escalatedAt;
+
+    @JsonIgnore
+    @Column(name = "owner_id")
+    private Long ownerId;
+
+    @Column(name = "owner_display_name")
+    private String ownerDisplayName;
+
+    @Column(name = "assignee_id")
+    private Long assigneeId;
+
+    @Column(name = "assignee_username", length = 50)
+    private String assigneeUsername;
+
+    @Column(name = "attachment_count", nullable = false)
+    private int attachmentCount;
+
+    @Column(name = "last_admin_comment", columnDefinition = "TEXT")
+    private String lastAdminComment;
+
+    @Column(name = "latest_update_at")
+    private LocalDateTime latestUpdateAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getComplaintNumber() {
+        return complaintNumber;
+    }
+
+    public void setComplaintNumber(String complaintNumber) {
+        this.complaintNumber = complaintNumber;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public ComplaintStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ComplaintStatus status) {
+        this.status = status;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public String getPriority() {
+        return priority;
+    }
+
+    public void setPriority(String priority) {
+        this.priority = priority;
+    }
+
+    public boolean isAnonymous() {
+        return anonymous;
+    }
+
+    public void setAnonymous(boolean anonymous) {
+        this.anonymous = anonymous;
+    }
+
+    public boolean isEscalated() {
+        return escalated;
+    }
+
+    public void setEscalated(boolean escalated) {
+        this.escalated = escalated;
+    }
+
+    public LocalDateTime getEscalatedAt() {
+        return escalatedAt;
+    }
+
+    public void setEscalatedAt(LocalDateTime escalatedAt) {
+        this.escalatedAt = escalatedAt;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(Long ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public String getOwnerDisplayName() {
+        return ownerDisplayName;
+    }
+
+    public void setOwnerDisplayName(String ownerDisplayName) {
+        this.ownerDisplayName = ownerDisplayName;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    public String getAssigneeUsername() {
+        return assigneeUsername;
+    }
+
+    public void setAssigneeUsername(String assigneeUsername) {
+        this.assigneeUsername = assigneeUsername;
+    }
+
+    public int getAttachmentCount() {
+        return attachmentCount;
+    }
+
+    public void setAttachmentCount(int attachmentCount) {
+        this.attachmentCount = attachmentCount;
+    }
+
+    public String getLastAdminComment() {
+        return lastAdminComment;
+    }
+
+    public void setLastAdminComment(String lastAdminComment) {
+        this.lastAdminComment = lastAdminComment;
+    }
+
+    public LocalDateTime getLatestUpdateAt() {
+        return latestUpdateAt;
+    }
+
+    public void setLatestUpdateAt(LocalDateTime latestUpdateAt) {
+        this.latestUpdateAt = latestUpdateAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
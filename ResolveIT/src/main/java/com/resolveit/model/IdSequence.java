@@ -0,0 +1,47 @@
+package com.resolveit.model;
+
+import jakarta.persistence.*;
+
+/**
+ * IdSequence - Named counter for block (hi/lo) allocation of business numbers
+ *
+ * Database Table: id_sequences
+ *
+ * Each application node reserves a block of values by advancing nextValue
+ * under a row lock, then hands out numbers from that block in memory.
+ */
+@Entity
+@Table(name = "id_sequences")
+public class IdSequence {
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+
+    public IdSequence() {
+    }
+
+    public IdSequence(String name, long nextValue) {
+        this.name = name;
+        this.nextValue = nextValue;
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getNextValue() {
+        return nextValue;
+    }
+
+    public void setNextValue(long nextValue) {
+        this.nextValue = nextValue;
+    }
+}
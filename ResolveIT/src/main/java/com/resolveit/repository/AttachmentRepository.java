@@ -2,11 +2,34 @@ package com.resolveit.repository;
 
 import com.resolveit.model.Attachment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
     List<Attachment> findByComplaintId(Long complaintId);
+
+    List<Attachment> findByComplaintIdIn(Collection<Long> complaintIds);
+
+    long countByComplaintId(Long complaintId);
+
+    // Stored names only, so bulk deletes need not load the entities
+    @Query("SELECT a.fileName FROM Attachment a")
+    List<String> findAllFileNames();
+
+    @Query("SELECT a.fileName FROM Attachment a WHERE a.complaint.id IN :complaintIds")
+    List<String> findFileNamesByComplaintIdIn(Collection<Long> complaintIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Attachment a WHERE a.complaint.id IN :complaintIds")
+    int deleteByComplaintIdIn(Collection<Long> complaintIds);
+
+    // [complaintId, count] pairs
+    @Query("SELECT a.complaint.id, COUNT(a) FROM Attachment a WHERE a.complaint.id IN :complaintIds "
+            + "GROUP BY a.complaint.id")
+    List<Object[]> countByComplaintIdIn(Collection<Long> complaintIds);
 }
@@ -2,8 +2,27 @@ package com.resolveit.repository;
 
 import com.resolveit.model.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    // Comment text only, for the search indexer
+    @Query("SELECT c.complaint.id AS complaintId, c.content AS content FROM Comment c WHERE c.complaint.id IN :complaintIds")
+    List<CommentText> findTextByComplaintIdIn(Collection<Long> complaintIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.complaint.id IN :complaintIds")
+    int deleteByComplaintIdIn(Collection<Long> complaintIds);
+
+    interface CommentText {
+        Long getComplaintId();
+
+        String getContent();
+    }
 }
@@ -0,0 +1,126 @@
+package com.resolveit.repository;
+
+import com.resolveit.model.ComplaintStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ComplaintBatchRepository - JDBC batch inserts for bulk operations
+ *
+ * complaints, complaint_updates, user_notifications and notifications use IDENTITY keys,
+ * which stops Hibernate from batching their inserts. Bulk paths write those
+ * rows here instead, sending BATCH_SIZE rows per round trip (add
+ * rewriteBatchedStatements=true to the MySQL URL to turn each batch into a
+ * single multi-row INSERT).
+ *
+ * Runs on the same connection as the surrounding JPA transaction, so the rows
+ * commit or roll back with it.
+ */
+@Repository
+public class ComplaintBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void insertComplaints(List<ComplaintRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO complaints (complaint_number, title, description, status, category, priority, "
+                        + "is_anonymous, created_by, created_at, is_escalated, version) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, false, 0)",
+                rows, BATCH_SIZE, (ps, row) -> {
+                    ps.setString(1, row.complaintNumber());
+                    ps.setString(2, row.title());
+                    ps.setString(3, row.description());
+                    ps.setString(4, row.status().name());
+                    ps.setString(5, row.category());
+                    ps.setString(6, row.priority());
+                    ps.setBoolean(7, row.anonymous());
+                    ps.setLong(8, row.createdById());
+                    ps.setTimestamp(9, Timestamp.valueOf(row.createdAt()));
+                });
+    }
+
+    public void insertUpdates(List<UpdateRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO complaint_updates (complaint_id, updated_by_id, old_status, new_status, comments, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)",
+                rows, BATCH_SIZE, (ps, row) -> {
+                    ps.setLong(1, row.complaintId());
+                    if (row.updatedById() != null) {
+                        ps.setLong(2, row.updatedById());
+                    } else {
+                        ps.setNull(2, Types.BIGINT);
+                    }
+                    ps.setString(3, row.oldStatus() != null ? row.oldStatus().name() : null);
+                    ps.setString(4, row.newStatus() != null ? row.newStatus().name() : null);
+                    ps.setString(5, row.comments());
+                    ps.setTimestamp(6, Timestamp.valueOf(row.updatedAt()));
+                });
+    }
+
+    public void insertUserNotifications(List<UserNotificationRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO user_notifications (user_id, type, message, complaint_id, is_read, created_at) "
+                        + "VALUES (?, ?, ?, ?, false, ?)",
+                rows, BATCH_SIZE, (ps, row) -> {
+                    ps.setLong(1, row.userId());
+                    ps.setString(2, row.type());
+                    ps.setString(3, row.message());
+                    ps.setLong(4, row.complaintId());
+                    ps.setTimestamp(5, Timestamp.valueOf(row.createdAt()));
+                });
+    }
+
+    public void insertNotifications(List<NotificationRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO notifications (type, message, complaint_id, created_by, is_read, created_at) "
+                        + "VALUES (?, ?, ?, ?, false, ?)",
+                rows, BATCH_SIZE, (ps, row) -> {
+                    ps.setString(1, row.type());
+                    ps.setString(2, row.message());
+                    ps.setLong(3, row.complaintId());
+                    if (row.createdById() != null) {
+                        ps.setLong(4, row.createdById());
+                    } else {
+                        ps.setNull(4, Types.BIGINT);
+                    }
+                    ps.setTimestamp(5, Timestamp.valueOf(row.createdAt()));
+                });
+    }
+
+    public record ComplaintRow(String complaintNumber, String title, String description, ComplaintStatus status,
+            String category, String priority, boolean anonymous, Long createdById, LocalDateTime createdAt) {
+    }
+
+    public record UpdateRow(Long complaintId, Long updatedById, ComplaintStatus oldStatus,
+            ComplaintStatus newStatus, String comments, LocalDateTime updatedAt) {
+    }
+
+    public record UserNotificationRow(Long userId, String type, String message, Long complaintId,
+            LocalDateTime createdAt) {
+    }
+
+    public record NotificationRow(String type, String message, Long complaintId, Long createdById,
+            LocalDateTime createdAt) {
+    }
+}
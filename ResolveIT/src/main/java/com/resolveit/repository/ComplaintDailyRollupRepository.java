@@ -0,0 +1,58 @@
+package com.resolveit.repository;
+
+import com.resolveit.model.ComplaintDailyRollup;
+import com.resolveit.model.ComplaintStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ComplaintDailyRollupRepository extends JpaRepository<ComplaintDailyRollup, Long> {
+
+    // Upsert of one (day, status, category) counter
+    @Modifying
+    @Query(value = "INSERT INTO complaint_daily_rollup (rollup_day, status, category, complaint_count) "
+            + "VALUES (:day, :status, :category, :delta) "
+            + "ON DUPLICATE KEY UPDATE complaint_count = complaint_count + :delta", nativeQuery = true)
+    int addDelta(LocalDate day, String status, String category, long delta);
+
+    // Takes the given complaints out of the counters for their current status
+    @Modifying
+    @Query(value = "INSERT INTO complaint_daily_rollup (rollup_day, status, category, complaint_count) "
+            + "SELECT src.rollup_day, src.status, src.category, src.cnt FROM ("
+            + "SELECT DATE(c.created_at) AS rollup_day, c.status AS status, c.category AS category, "
+            + "-COUNT(*) AS cnt FROM complaints c WHERE c.id IN (:ids) "
+            + "GROUP BY DATE(c.created_at), c.status, c.category) src "
+            + "ON DUPLICATE KEY UPDATE complaint_count = complaint_count + src.cnt", nativeQuery = true)
+    int subtractComplaints(Collection<Long> ids);
+
+    // Adds the given complaints to the counters of status
+    @Modifying
+    @Query(value = "INSERT INTO complaint_daily_rollup (rollup_day, status, category, complaint_count) "
+            + "SELECT src.rollup_day, src.status, src.category, src.cnt FROM ("
+            + "SELECT DATE(c.created_at) AS rollup_day, :status AS status, c.category AS category, "
+            + "COUNT(*) AS cnt FROM complaints c WHERE c.id IN (:ids) "
+            + "GROUP BY DATE(c.created_at), c.category) src "
+            + "ON DUPLICATE KEY UPDATE complaint_count = complaint_count + src.cnt", nativeQuery = true)
+    int addComplaints(Collection<Long> ids, String status);
+
+    // Backfill: the whole table from one GROUP BY over complaints
+    @Modifying
+    @Query(value = "INSERT INTO complaint_daily_rollup (rollup_day, status, category, complaint_count) "
+            + "SELECT DATE(created_at), status, category, COUNT(*) FROM complaints "
+            + "GROUP BY DATE(created_at), status, category", nativeQuery = true)
+    int insertFromComplaints();
+
+    // [day, count] per day of the range; status and category are optional filters
+    @Query("SELECT r.rollupDay, SUM(r.complaintCount) FROM ComplaintDailyRollup r "
+            + "WHERE r.rollupDay BETWEEN :from AND :to "
+            + "AND (:status IS NULL OR r.status = :status) "
+            + "AND (:category IS NULL OR r.category = :category) "
+            + "GROUP BY r.rollupDay ORDER BY r.rollupDay")
+    List<Object[]> sumByDay(LocalDate from, LocalDate to, ComplaintStatus status, String category);
+}
@@ -1,17 +1,29 @@
 package com.resolveit.repository;
 
+import com.resolveit.dto.ComplaintSummary;
 import com.resolveit.model.Complaint;
 import com.resolveit.model.ComplaintStatus;
+import com.resolveit.model.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
+public interface ComplaintRepository extends JpaRepository<Complaint, Long>, ComplaintRepositoryCustom {
     List<Complaint> findByCreatedById(Long userId);
 
     List<Complaint> findByAssignedToId(Long userId);
@@ -24,12 +36,218 @@ public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
 
     Optional<Complaint> findTopByOrderByIdDesc();
 
-    Optional<Complaint> findTopByOrderByComplaintNumberDesc();
+    // Numeric maximum of CMP-xxxxx numbers; only used to seed the number sequence
+    @Query("SELECT MAX(CAST(SUBSTRING(c.complaintNumber, 5) AS Long)) FROM Complaint c "
+            + "WHERE c.complaintNumber LIKE 'CMP-%'")
+    Long findHighestComplaintSequence();
 
-    // This method is used by the isOwner check in ComplaintService
-    default boolean existsByIdAndCreatedBy(Long id, Long createdBy) {
-        return findById(id)
-                .map(complaint -> complaint.getCreatedBy().getId().equals(createdBy))
-                .orElse(false);
+    // Keyset (seek) pagination - ordered by (createdAt DESC, id DESC), no COUNT query
+    @Query("SELECT c FROM Complaint c ORDER BY c.createdAt DESC, c.id DESC")
+    List<Complaint> findSeekFirst(Pageable pageable);
+
+    @Query("SELECT c FROM Complaint c WHERE c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id) "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Complaint> findSeekAfter(LocalDateTime createdAt, Long id, Pageable pageable);
+
+    @Query("SELECT c FROM Complaint c WHERE c.status = :status ORDER BY c.createdAt DESC, c.id DESC")
+    List<Complaint> findSeekFirstByStatus(ComplaintStatus status, Pageable pageable);
+
+    @Query("SELECT c FROM Complaint c WHERE c.status = :status "
+            + "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Complaint> findSeekAfterByStatus(ComplaintStatus status, LocalDateTime createdAt, Long id,
+            Pageable pageable);
+
+    // Keyset walk over IDs, used by batch jobs that process the table in chunks
+    @Query("SELECT c.id FROM Complaint c WHERE c.id > :afterId ORDER BY c.id")
+    List<Long> findIdsAfter(Long afterId, Pageable pageable);
+
+    @Query("SELECT c.version FROM Complaint c WHERE c.id = :id")
+    Optional<Long> findVersionById(Long id);
+
+    // Unconditional ETag bump for changes in child tables (comments, attachments); never conflicts
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Complaint c SET c.version = c.version + 1 WHERE c.id = :id")
+    int incrementVersion(Long id);
+
+    // Escalation as one guarded UPDATE, so it never fails on a concurrently edited complaint
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Complaint c SET c.isEscalated = true, c.escalatedAt = :escalatedAt, c.version = c.version + 1 "
+            + "WHERE c.id = :id AND c.isEscalated = false")
+    int escalateById(Long id, LocalDateTime escalatedAt);
+
+    // Summary projections - list screens only need these columns
+    String SUMMARY_SELECT = "SELECT c.id AS id, c.complaintNumber AS complaintNumber, c.title AS title, "
+            + "c.status AS status, c.category AS category, c.priority AS priority, c.isEscalated AS escalated, "
+            + "c.createdAt AS createdAt, c.updatedAt AS updatedAt FROM Complaint c ";
+
+    @Query(SUMMARY_SELECT + "ORDER BY c.id")
+    List<ComplaintSummary> findAllSummaries();
+
+    @Query(value = SUMMARY_SELECT, countQuery = "SELECT COUNT(c) FROM Complaint c")
+    Page<ComplaintSummary> findAllSummaries(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE c.createdBy.id = :userId ORDER BY c.id")
+    List<ComplaintSummary> findSummariesByCreatedById(Long userId);
+
+    @Query(SUMMARY_SELECT + "WHERE c.assignedTo.id = :userId ORDER BY c.id")
+    List<ComplaintSummary> findSummariesByAssignedToId(Long userId);
+
+    @Query(value = SUMMARY_SELECT + "WHERE c.status = :status",
+            countQuery = "SELECT COUNT(c) FROM Complaint c WHERE c.status = :status")
+    Page<ComplaintSummary> findSummariesByStatus(ComplaintStatus status, Pageable pageable);
+
+    // Forward-only cursor over the whole table; rows are fetched from the driver in bounded batches
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Complaint c ORDER BY c.id")
+    Stream<Complaint> streamAllByOrderById();
+
+    // Flat rows for the report exports - users joined in the same query, nothing enters the persistence context.
+    // Null arguments match everything.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c.complaintNumber AS complaintNumber, c.title AS title, c.category AS category, "
+            + "c.priority AS priority, c.status AS status, cb.email AS createdByEmail, "
+            + "at.email AS assignedToEmail, c.createdAt AS createdAt, c.isEscalated AS escalated "
+            + "FROM Complaint c LEFT JOIN c.createdBy cb LEFT JOIN c.assignedTo at "
+            + "WHERE (:status IS NULL OR c.status = :status) "
+            + "AND (:category IS NULL OR c.category = :category) "
+            + "AND (:priority IS NULL OR c.priority = :priority) "
+            + "AND (:escalated IS NULL OR c.isEscalated = :escalated) "
+            + "AND (:createdFrom IS NULL OR c.createdAt >= :createdFrom) "
+            + "AND (:createdBefore IS NULL OR c.createdAt < :createdBefore) "
+            + "ORDER BY c.id")
+    Stream<ReportRow> streamReportRows(ComplaintStatus status, String category, String priority, Boolean escalated,
+            LocalDateTime createdFrom, LocalDateTime createdBefore);
+
+    // Bulk status transitions - lock the rows and read only what validation and notifications need
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c.id AS id, c.status AS status, c.complaintNumber AS complaintNumber, c.title AS title, "
+            + "c.isAnonymous AS anonymous, c.isEscalated AS escalated, u.id AS ownerId, u.email AS ownerEmail "
+            + "FROM Complaint c LEFT JOIN c.createdBy u WHERE c.id IN :ids")
+    List<StatusRow> findStatusRowsForUpdate(Collection<Long> ids);
+
+    @Query("SELECT c.status FROM Complaint c WHERE c.id = :id")
+    Optional<ComplaintStatus> findStatusById(Long id);
+
+    // Single-complaint compare-and-set; returns 0 when the status is no longer expectedStatus
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Complaint c SET c.status = :newStatus, c.updatedAt = :updatedAt, c.version = c.version + 1 "
+            + "WHERE c.id = :id AND c.status = :expectedStatus")
+    int compareAndSetStatus(Long id, ComplaintStatus expectedStatus, ComplaintStatus newStatus,
+            LocalDateTime updatedAt);
+
+    // Reset step 1: park every number outside the CMP- range so renumbering cannot hit the unique key
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE complaints SET complaint_number = CONCAT('T-', id)", nativeQuery = true)
+    int parkComplaintNumbers();
+
+    // Reset step 2: renumber by creation order from firstNumber in one windowed UPDATE, back to NEW and unassigned
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE complaints c JOIN (SELECT id, "
+            + "ROW_NUMBER() OVER (ORDER BY created_at, id) + :firstNumber - 1 AS num FROM complaints) r ON r.id = c.id "
+            + "SET c.complaint_number = CONCAT('CMP-', LPAD(r.num, GREATEST(5, CHAR_LENGTH(r.num)), '0')), "
+            + "c.status = 'NEW', c.assigned_to = NULL, c.version = c.version + 1", nativeQuery = true)
+    int renumberForReset(long firstNumber);
+
+    // Guarded by the old status; bumps the version like a managed update would
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Complaint c SET c.status = :newStatus, c.updatedAt = :updatedAt, c.version = c.version + 1 "
+            + "WHERE c.id IN :ids AND c.status = :oldStatus")
+    int updateStatusByIdIn(Collection<Long> ids, ComplaintStatus oldStatus, ComplaintStatus newStatus,
+            LocalDateTime updatedAt);
+
+    @Query("SELECT c.id FROM Complaint c WHERE c.id IN :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    // Locks the rows so nothing new can attach to them before the cascade delete
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c.id FROM Complaint c WHERE c.id IN :ids")
+    List<Long> lockExistingIds(Collection<Long> ids);
+
+    // Children must be gone first (see ComplaintBulkService.deleteCascade)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Complaint c WHERE c.id IN :ids")
+    int deleteByIdIn(Collection<Long> ids);
+
+    @Query("SELECT c.id FROM Complaint c WHERE c.complaintNumber IN :complaintNumbers")
+    List<Long> findIdsByComplaintNumberIn(Collection<String> complaintNumbers);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Complaint c SET c.assignedTo = :assignee, c.updatedAt = :updatedAt, c.version = c.version + 1 "
+            + "WHERE c.id IN :ids")
+    int assignByIdIn(Collection<Long> ids, User assignee, LocalDateTime updatedAt);
+
+    // One row per (status, category, priority, escalated) combination - row count is the number of groups
+    @Query("SELECT c.status AS status, c.category AS category, c.priority AS priority, "
+            + "c.isEscalated AS escalated, COUNT(c) AS count FROM Complaint c "
+            + "GROUP BY c.status, c.category, c.priority, c.isEscalated")
+    List<StatsGroup> countByStatsGroup();
+
+    @Query("SELECT c.status AS status, c.category AS category, c.priority AS priority, "
+            + "c.isEscalated AS escalated, COUNT(c) AS count FROM Complaint c WHERE c.id IN :ids "
+            + "GROUP BY c.status, c.category, c.priority, c.isEscalated")
+    List<StatsGroup> countByStatsGroupForIds(Collection<Long> ids);
+
+    interface StatsGroup {
+        ComplaintStatus getStatus();
+
+        String getCategory();
+
+        String getPriority();
+
+        boolean isEscalated();
+
+        long getCount();
     }
+
+    interface ReportRow {
+        String getComplaintNumber();
+
+        String getTitle();
+
+        String getCategory();
+
+        String getPriority();
+
+        ComplaintStatus getStatus();
+
+        String getCreatedByEmail();
+
+        String getAssignedToEmail();
+
+        LocalDateTime getCreatedAt();
+
+        boolean isEscalated();
+    }
+
+    interface StatusRow {
+        Long getId();
+
+        ComplaintStatus getStatus();
+
+        String getComplaintNumber();
+
+        String getTitle();
+
+        boolean isAnonymous();
+
+        boolean isEscalated();
+
+        Long getOwnerId();
+
+        String getOwnerEmail();
+    }
+
+    // Owner ID only (the created_by column), for ComplaintAccess
+    @Query("SELECT c.createdBy.id FROM Complaint c WHERE c.id = :id")
+    Optional<Long> findOwnerIdById(Long id);
+
+    @Query("SELECT COUNT(c) > 0 FROM Complaint c WHERE c.id = :id AND c.createdBy.id = :createdBy")
+    boolean existsByIdAndCreatedBy(Long id, Long createdBy);
 }
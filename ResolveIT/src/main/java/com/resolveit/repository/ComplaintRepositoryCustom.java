@@ -0,0 +1,35 @@
+package com.resolveit.repository;
+
+import com.resolveit.model.Complaint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Criteria-based complaint queries that Spring Data cannot derive.
+ */
+public interface ComplaintRepositoryCustom {
+
+    /**
+     * Selects only the requested columns (sparse fieldset) for complaints
+     * matching the specification. Each row is returned as an ordered map of
+     * field name to value.
+     */
+    Page<Map<String, Object>> findFields(List<String> fields, Specification<Complaint> spec, Pageable pageable);
+
+    /**
+     * Returns a compact fingerprint (row count, sum of IDs, sum of versions and
+     * latest update time) of the complaints matching the specification. It
+     * changes whenever a matching row is inserted, modified or deleted.
+     */
+    String findVersionFingerprint(Specification<Complaint> spec);
+
+    /**
+     * Returns up to maxResults IDs of complaints matching the specification,
+     * oldest first.
+     */
+    List<Long> findIds(Specification<Complaint> spec, int maxResults);
+}
@@ -0,0 +1,153 @@
+package com.resolveit.repository;
+
+import com.resolveit.model.Complaint;
+import com.resolveit.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+public class ComplaintRepositoryImpl implements ComplaintRepositoryCustom {
+
+    // API field name -> entity attribute. assignedTo is resolved through a join.
+    private static final Map<String, String> SELECTABLE_FIELDS = new LinkedHashMap<>();
+
+    static {
+        SELECTABLE_FIELDS.put("id", "id");
+        SELECTABLE_FIELDS.put("complaintNumber", "complaintNumber");
+        SELECTABLE_FIELDS.put("title", "title");
+        SELECTABLE_FIELDS.put("description", "description");
+        SELECTABLE_FIELDS.put("status", "status");
+        SELECTABLE_FIELDS.put("category", "category");
+        SELECTABLE_FIELDS.put("priority", "priority");
+        SELECTABLE_FIELDS.put("anonymous", "isAnonymous");
+        SELECTABLE_FIELDS.put("escalated", "isEscalated");
+        SELECTABLE_FIELDS.put("escalatedAt", "escalatedAt");
+        SELECTABLE_FIELDS.put("createdAt", "createdAt");
+        SELECTABLE_FIELDS.put("updatedAt", "updatedAt");
+        SELECTABLE_FIELDS.put("assignedTo", null);
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Map<String, Object>> findFields(List<String> fields, Specification<Complaint> spec,
+            Pageable pageable) {
+        for (String field : fields) {
+            if (!SELECTABLE_FIELDS.containsKey(field)) {
+                throw new IllegalArgumentException(
+                        "Unknown field: " + field + ". Allowed fields: " + SELECTABLE_FIELDS.keySet());
+            }
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Complaint> root = query.from(Complaint.class);
+
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            if ("assignedTo".equals(field)) {
+                Join<Complaint, User> assignee = root.join("assignedTo", JoinType.LEFT);
+                selections.add(assignee.get("username").alias(field));
+            } else {
+                selections.add(root.get(SELECTABLE_FIELDS.get(field)).alias(field));
+            }
+        }
+        query.multiselect(selections);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : typedQuery.getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : fields) {
+                row.put(field, tuple.get(field));
+            }
+            rows.add(row);
+        }
+
+        if (!pageable.isPaged()) {
+            return new PageImpl<>(rows);
+        }
+        return new PageImpl<>(rows, pageable, count(spec));
+    }
+
+    @Override
+    public String findVersionFingerprint(Specification<Complaint> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Complaint> root = query.from(Complaint.class);
+        query.multiselect(
+                cb.count(root),
+                cb.sum(root.<Long>get("id")),
+                cb.sum(root.<Long>get("version")),
+                cb.greatest(root.<LocalDateTime>get("updatedAt")));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        Tuple tuple = entityManager.createQuery(query).getSingleResult();
+        return tuple.get(0) + ":" + tuple.get(1) + ":" + tuple.get(2) + ":" + tuple.get(3);
+    }
+
+    @Override
+    public List<Long> findIds(Specification<Complaint> spec, int maxResults) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Complaint> root = query.from(Complaint.class);
+        query.select(root.get("id"));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("createdAt")), cb.asc(root.get("id")));
+        return entityManager.createQuery(query).setMaxResults(maxResults).getResultList();
+    }
+
+    private long count(Specification<Complaint> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Complaint> root = query.from(Complaint.class);
+        query.select(cb.count(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private List<Order> toOrders(Sort sort, Root<Complaint> root, CriteriaBuilder cb) {
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String attribute = SELECTABLE_FIELDS.get(order.getProperty());
+            if (attribute == null) {
+                throw new IllegalArgumentException("Cannot sort by: " + order.getProperty());
+            }
+            orders.add(order.isAscending() ? cb.asc(root.get(attribute)) : cb.desc(root.get(attribute)));
+        }
+        if (orders.isEmpty()) {
+            orders.add(cb.asc(root.get("id")));
+        }
+        return orders;
+    }
+}
@@ -0,0 +1,42 @@
+package com.resolveit.repository;
+
+import com.resolveit.model.Complaint;
+import com.resolveit.model.ComplaintStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Reusable filters for criteria-based complaint queries.
+ */
+public final class ComplaintSpecifications {
+
+    private ComplaintSpecifications() {
+    }
+
+    public static Specification<Complaint> all() {
+        return (root, query, cb) -> cb.conjunction();
+    }
+
+    public static Specification<Complaint> createdBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("createdBy").get("id"), userId);
+    }
+
+    public static Specification<Complaint> assignedTo(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("assignedTo").get("id"), userId);
+    }
+
+    public static Specification<Complaint> hasStatus(ComplaintStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Complaint> hasCategory(String category) {
+        return (root, query, cb) -> cb.equal(root.get("category"), category);
+    }
+
+    public static Specification<Complaint> hasPriority(String priority) {
+        return (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    public static Specification<Complaint> unassigned() {
+        return (root, query, cb) -> cb.isNull(root.get("assignedTo"));
+    }
+}
@@ -1,12 +1,36 @@
 package com.resolveit.repository;
 
 import com.resolveit.model.ComplaintUpdate;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ComplaintUpdateRepository extends JpaRepository<ComplaintUpdate, Long> {
     List<ComplaintUpdate> findByComplaintIdOrderByUpdatedAtDesc(Long complaintId);
+
+    List<ComplaintUpdate> findByComplaintIdInOrderByUpdatedAtDesc(Collection<Long> complaintIds);
+
+    Optional<ComplaintUpdate> findTopByComplaintIdOrderByUpdatedAtDesc(Long complaintId);
+
+    // Latest update of each complaint (ties broken by highest id first)
+    @Query("SELECT u FROM ComplaintUpdate u WHERE u.complaint.id IN :complaintIds AND u.updatedAt = "
+            + "(SELECT MAX(u2.updatedAt) FROM ComplaintUpdate u2 WHERE u2.complaint = u.complaint) "
+            + "ORDER BY u.id DESC")
+    List<ComplaintUpdate> findLatestByComplaintIdIn(Collection<Long> complaintIds);
+
+    // Incremental timeline - update IDs grow with time, so they double as a cursor
+    List<ComplaintUpdate> findByComplaintIdAndIdGreaterThanOrderByIdAsc(Long complaintId, Long id, Pageable pageable);
+
+    List<ComplaintUpdate> findByComplaintIdOrderByIdDesc(Long complaintId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ComplaintUpdate u WHERE u.complaint.id IN :complaintIds")
+    int deleteByComplaintIdIn(Collection<Long> complaintIds);
 }
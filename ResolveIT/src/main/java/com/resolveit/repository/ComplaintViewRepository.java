@@ -0,0 +1,23 @@
+package com.resolveit.repository;
+
+import com.resolveit.model.ComplaintStatus;
+import com.resolveit.model.ComplaintView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ComplaintViewRepository extends JpaRepository<ComplaintView, Long>,
+        JpaSpecificationExecutor<ComplaintView>, ComplaintViewRepositoryCustom {
+    List<ComplaintView> findAllByOrderByCreatedAtDesc();
+
+    List<ComplaintView> findByOwnerIdOrderByCreatedAtDesc(Long ownerId);
+
+    List<ComplaintView> findByAssigneeIdOrderByCreatedAtDesc(Long assigneeId);
+
+    Page<ComplaintView> findByStatus(ComplaintStatus status, Pageable pageable);
+}
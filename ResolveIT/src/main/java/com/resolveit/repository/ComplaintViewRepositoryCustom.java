@@ -0,0 +1,18 @@
+package com.resolveit.repository;
+
+import com.resolveit.model.ComplaintView;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Map;
+
+/**
+ * Grouped queries over the complaint_view read model.
+ */
+public interface ComplaintViewRepositoryCustom {
+
+    /**
+     * Counts the rows matching the specification per value of the given
+     * attribute, with one GROUP BY query. Null values are reported under "none".
+     */
+    Map<String, Long> countByFacet(String attribute, Specification<ComplaintView> spec);
+}
@@ -0,0 +1,40 @@
+package com.resolveit.repository;
+
+import com.resolveit.model.ComplaintView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ComplaintViewRepositoryImpl implements ComplaintViewRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Map<String, Long> countByFacet(String attribute, Specification<ComplaintView> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<ComplaintView> root = query.from(ComplaintView.class);
+        Path<Object> value = root.get(attribute);
+        Expression<Long> count = cb.count(root);
+        query.multiselect(value, count);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.groupBy(value);
+        query.orderBy(cb.desc(count));
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            Object key = tuple.get(0);
+            counts.put(key != null ? key.toString() : "none", tuple.get(1, Long.class));
+        }
+        return counts;
+    }
+}
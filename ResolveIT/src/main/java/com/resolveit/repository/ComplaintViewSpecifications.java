@@ -0,0 +1,71 @@
+package com.resolveit.repository;
+
+import com.resolveit.dto.ComplaintFilter;
+import com.resolveit.model.ComplaintView;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filters over the complaint_view read model, used by the faceted filter
+ * endpoint. Facet names are the ComplaintView attributes they group by.
+ */
+public final class ComplaintViewSpecifications {
+
+    public static final String FACET_STATUS = "status";
+    public static final String FACET_CATEGORY = "category";
+    public static final String FACET_PRIORITY = "priority";
+    public static final String FACET_ESCALATED = "escalated";
+    public static final String FACET_ASSIGNEE = "assigneeId";
+
+    public static final List<String> FACETS = List.of(
+            FACET_STATUS, FACET_CATEGORY, FACET_PRIORITY, FACET_ESCALATED, FACET_ASSIGNEE);
+
+    private ComplaintViewSpecifications() {
+    }
+
+    /**
+     * All conditions of the filter, except the one for excludedFacet (null to
+     * apply everything).
+     */
+    public static Specification<ComplaintView> matching(ComplaintFilter filter, String excludedFacet) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (!FACET_STATUS.equals(excludedFacet) && !filter.getStatus().isEmpty()) {
+                predicates.add(root.get("status").in(filter.getStatus()));
+            }
+            if (!FACET_CATEGORY.equals(excludedFacet) && !filter.getCategory().isEmpty()) {
+                predicates.add(root.get("category").in(filter.getCategory()));
+            }
+            if (!FACET_PRIORITY.equals(excludedFacet) && !filter.getPriority().isEmpty()) {
+                predicates.add(root.get("priority").in(filter.getPriority()));
+            }
+            if (!FACET_ESCALATED.equals(excludedFacet) && filter.getEscalated() != null) {
+                predicates.add(cb.equal(root.get("escalated"), filter.getEscalated()));
+            }
+            if (!FACET_ASSIGNEE.equals(excludedFacet)) {
+                if (filter.isUnassigned() && !filter.getAssigneeId().isEmpty()) {
+                    predicates.add(cb.or(cb.isNull(root.get("assigneeId")),
+                            root.get("assigneeId").in(filter.getAssigneeId())));
+                } else if (filter.isUnassigned()) {
+                    predicates.add(cb.isNull(root.get("assigneeId")));
+                } else if (!filter.getAssigneeId().isEmpty()) {
+                    predicates.add(root.get("assigneeId").in(filter.getAssigneeId()));
+                }
+            }
+            // The date range is not a facet, so it always applies
+            if (filter.getCreatedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<LocalDateTime>get("createdAt"),
+                        filter.getCreatedFrom().atStartOfDay()));
+            }
+            if (filter.getCreatedTo() != null) {
+                predicates.add(cb.lessThan(root.<LocalDateTime>get("createdAt"),
+                        filter.getCreatedTo().plusDays(1).atStartOfDay()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
@@ -2,6 +2,7 @@ package com.resolveit.repository;
 
 import com.resolveit.model.Notification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +14,8 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     List<Notification> findAllByOrderByCreatedAtDesc();
 
     Long countByIsReadFalse();
+
+    @Query("SELECT COUNT(n) AS total, MAX(n.id) AS maxId, "
+            + "COALESCE(SUM(CASE WHEN n.isRead = true THEN 1 ELSE 0 END), 0) AS readCount FROM Notification n")
+    NotificationWatermark findWatermark();
 }
@@ -0,0 +1,14 @@
+package com.resolveit.repository;
+
+/**
+ * Cheap aggregate over a notification list. Any insert or read-flag change
+ * moves at least one of these values, so it can stand in for the list itself
+ * when deciding whether a client's cached copy is still current.
+ */
+public interface NotificationWatermark {
+    long getTotal();
+
+    Long getMaxId();
+
+    long getReadCount();
+}
@@ -2,6 +2,7 @@ package com.resolveit.repository;
 
 import com.resolveit.model.UserNotification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,4 +15,9 @@ public interface UserNotificationRepository extends JpaRepository<UserNotificati
     List<UserNotification> findByUserIdAndIsReadFalseOrderByCreatedAtDesc(Long userId);
 
     Long countByUserIdAndIsReadFalse(Long userId);
+
+    @Query("SELECT COUNT(n) AS total, MAX(n.id) AS maxId, "
+            + "COALESCE(SUM(CASE WHEN n.isRead = true THEN 1 ELSE 0 END), 0) AS readCount "
+            + "FROM UserNotification n WHERE n.user.id = :userId")
+    NotificationWatermark findWatermarkByUserId(Long userId);
 }
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,4 +29,26 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Count users with a specific role
     @Query("SELECT COUNT(u) FROM User u JOIN u.roles r WHERE r = :role")
     Long countByRole(Role role);
+
+    // Display fields only - avoids loading the eager roles collection per user
+    @Query("SELECT u.id AS id, u.name AS name, u.username AS username FROM User u WHERE u.id IN :ids")
+    List<UserDisplay> findDisplayByIdIn(Collection<Long> ids);
+
+    // Owner lookup for bulk import - resolves many emails with one query
+    @Query("SELECT u.id AS id, u.email AS email FROM User u WHERE u.email IN :emails")
+    List<UserEmail> findIdByEmailIn(Collection<String> emails);
+
+    interface UserEmail {
+        Long getId();
+
+        String getEmail();
+    }
+
+    interface UserDisplay {
+        Long getId();
+
+        String getName();
+
+        String getUsername();
+    }
 }
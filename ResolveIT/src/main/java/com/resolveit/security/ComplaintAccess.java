@@ -0,0 +1,52 @@
+package com.resolveit.security;
+
+import com.resolveit.config.CacheConfig;
+import com.resolveit.model.User;
+import com.resolveit.repository.ComplaintRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * ComplaintAccess - Per-complaint authorization checks for @PreAuthorize
+ *
+ * Used as @complaintAccess.isOwner(#id, #currentUser). Ownership is answered
+ * from the owner ID alone: a scalar SELECT created_by query, remembered in a
+ * bounded cache keyed by complaint ID. The owner of a complaint never
+ * changes, so entries only need to be dropped when complaints are deleted.
+ */
+@Component("complaintAccess")
+public class ComplaintAccess {
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    private final Cache owners;
+
+    @Autowired
+    public ComplaintAccess(CacheManager cacheManager) {
+        this.owners = cacheManager.getCache(CacheConfig.COMPLAINT_OWNERS_CACHE);
+    }
+
+    public boolean isOwner(Long complaintId, User user) {
+        if (complaintId == null || user == null || user.getId() == null) {
+            return false;
+        }
+        Long ownerId = owners.get(complaintId, Long.class);
+        if (ownerId == null) {
+            ownerId = complaintRepository.findOwnerIdById(complaintId).orElse(null);
+            if (ownerId == null) {
+                return false;
+            }
+            owners.put(complaintId, ownerId);
+        }
+        return ownerId.equals(user.getId());
+    }
+
+    public void forget(Collection<Long> complaintIds) {
+        complaintIds.forEach(owners::evict);
+    }
+}
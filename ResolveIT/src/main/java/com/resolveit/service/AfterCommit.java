@@ -0,0 +1,80 @@
+package com.resolveit.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * AfterCommit - Defers work until the surrounding transaction has finished
+ *
+ * Used by write paths for side effects that must not be visible before the
+ * data is (emails, index updates, counters, file deletion). Without an
+ * active transaction the work runs immediately.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Runs action once the current transaction commits; a rollback drops it.
+     */
+    public static void run(Runnable action) {
+        run(action, null);
+    }
+
+    /**
+     * Runs action once the current transaction commits, or onRollback (when
+     * not null) if it does not.
+     */
+    public static void run(Runnable action, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    action.run();
+                } else if (onRollback != null) {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * Runs action if the current transaction rolls back, e.g. to undo a file
+     * write. Does nothing without a transaction.
+     */
+    public static void onRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * Runs action once the current transaction has finished, whether it
+     * committed or rolled back.
+     */
+    public static void always(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+}
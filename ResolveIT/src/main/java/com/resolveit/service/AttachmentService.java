@@ -1,6 +1,7 @@
 package com.resolveit.service;
 
 import com.resolveit.dto.AttachmentResponse;
+import com.resolveit.dto.FileCleanupProgress;
 import com.resolveit.model.Attachment;
 import com.resolveit.model.Complaint;
 import com.resolveit.repository.AttachmentRepository;
@@ -28,6 +29,15 @@ public class AttachmentService {
     @Autowired
     private FileStorageService fileStorageService;
 
+    @Autowired
+    private ComplaintCache complaintCache;
+
+    @Autowired
+    private ComplaintViewService complaintViewService;
+
+    @Autowired
+    private FileCleanupService fileCleanupService;
+
     // Allowed file types - only PDF, JPG, JPEG, MP4
     private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList("pdf", "jpg", "jpeg", "mp4");
 
@@ -50,8 +60,9 @@ public class AttachmentService {
             throw new IllegalArgumentException("File type not allowed. Only PDF, JPG, JPEG, and MP4 are accepted.");
         }
 
-        // Store file using FileStorageService
+        // Store file using FileStorageService; removed again if the transaction rolls back
         String storedFilename = fileStorageService.storeFile(file);
+        AfterCommit.onRollback(() -> fileStorageService.deleteFile(storedFilename));
 
         // Create attachment entity
         Attachment attachment = new Attachment();
@@ -65,6 +76,10 @@ public class AttachmentService {
 
         // Save to database
         Attachment saved = attachmentRepository.save(attachment);
+        // Attachments live in a child table; bump the complaint version so ETags change too
+        complaintRepository.incrementVersion(complaintId);
+        complaintViewService.refresh(complaint);
+        complaintCache.evict(complaintId);
         return convertToDto(saved);
     }
 
@@ -85,18 +100,27 @@ public class AttachmentService {
     @Transactional
     public void deleteAttachment(Long attachmentId) {
         Attachment attachment = getAttachment(attachmentId);
-        // Delete file from storage
-        fileStorageService.deleteFile(attachment.getFileName());
         attachmentRepository.deleteById(attachmentId);
+        // Delete file from storage once the row is gone for good
+        String fileName = attachment.getFileName();
+        AfterCommit.run(() -> fileStorageService.deleteFile(fileName));
+        if (attachment.getComplaint() != null) {
+            complaintRepository.incrementVersion(attachment.getComplaint().getId());
+            complaintViewService.refresh(attachment.getComplaint());
+            complaintCache.evict(attachment.getComplaint().getId());
+        }
     }
 
+    /**
+     * Deletes every attachment row in one statement; the files themselves are
+     * removed in the background after commit (see FileCleanupService).
+     */
     @Transactional
-    public void deleteAllAttachments() {
-        List<Attachment> attachments = attachmentRepository.findAll();
-        for (Attachment attachment : attachments) {
-            fileStorageService.deleteFile(attachment.getFileName());
-        }
-        attachmentRepository.deleteAll();
+    public FileCleanupProgress deleteAllAttachments() {
+        List<String> fileNames = attachmentRepository.findAllFileNames();
+        attachmentRepository.deleteAllInBatch();
+        complaintCache.clear();
+        return fileCleanupService.deleteAfterCommit(fileNames);
     }
 
     private AttachmentResponse convertToDto(Attachment attachment) {
@@ -0,0 +1,399 @@
+package com.resolveit.service;
+
+import com.resolveit.dto.BulkAssignRequest;
+import com.resolveit.dto.BulkAssignResponse;
+import com.resolveit.dto.BulkDeleteRequest;
+import com.resolveit.dto.BulkOperationResponse;
+import com.resolveit.dto.BulkStatusUpdateRequest;
+import com.resolveit.model.Complaint;
+import com.resolveit.model.ComplaintStatus;
+import com.resolveit.model.User;
+import com.resolveit.repository.AttachmentRepository;
+import com.resolveit.repository.CommentRepository;
+import com.resolveit.repository.ComplaintBatchRepository;
+import com.resolveit.repository.ComplaintBatchRepository.NotificationRow;
+import com.resolveit.repository.ComplaintBatchRepository.UpdateRow;
+import com.resolveit.repository.ComplaintBatchRepository.UserNotificationRow;
+import com.resolveit.repository.ComplaintRepository;
+import com.resolveit.repository.ComplaintUpdateRepository;
+import com.resolveit.repository.ComplaintSpecifications;
+import com.resolveit.repository.UserRepository;
+import com.resolveit.security.ComplaintAccess;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * ComplaintBulkService - Operations applied to many complaints in one request
+ *
+ * Instead of repeating the single-complaint path per ID, each operation:
+ * - locks and reads the affected rows with one IN (...) query
+ * - validates every ID in memory and records a per-ID result
+ * - applies the change with one UPDATE per distinct old state
+ * - writes audit and notification rows with JDBC batches
+ * - sends emails from one async task after the transaction commits
+ * - deletes children with one DELETE per table and removes files after commit
+ */
+@Service
+public class ComplaintBulkService {
+
+    public static final int MAX_BULK_SIZE = 1000;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private ComplaintBatchRepository complaintBatchRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private ComplaintViewService complaintViewService;
+
+    @Autowired
+    private ComplaintSearchService complaintSearchService;
+
+    @Autowired
+    private ComplaintCache complaintCache;
+
+    @Autowired
+    private ComplaintWorkflow complaintWorkflow;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ComplaintUpdateRepository complaintUpdateRepository;
+
+    @Autowired
+    private FileCleanupService fileCleanupService;
+
+    @Autowired
+    private ComplaintAccess complaintAccess;
+
+    @Autowired
+    private ComplaintStatsService complaintStatsService;
+
+    @Autowired
+    private ComplaintRollupService complaintRollupService;
+
+    @Transactional
+    public BulkOperationResponse updateStatus(BulkStatusUpdateRequest request, User updatedBy) {
+        ComplaintStatus newStatus = request.getStatus();
+        if (newStatus == null) {
+            throw new IllegalArgumentException("New status cannot be null");
+        }
+        List<Long> ids = distinctIds(request.getIds());
+
+        Map<Long, ComplaintRepository.StatusRow> rowsById = new HashMap<>();
+        for (ComplaintRepository.StatusRow row : complaintRepository.findStatusRowsForUpdate(ids)) {
+            rowsById.put(row.getId(), row);
+        }
+
+        // Validate every ID against the transition rules in one pass
+        BulkOperationResponse response = new BulkOperationResponse();
+        Map<ComplaintStatus, List<Long>> idsByOldStatus = new EnumMap<>(ComplaintStatus.class);
+        Map<ComplaintStatus, ComplaintWorkflow.Transition> transitions = new EnumMap<>(ComplaintStatus.class);
+        List<ComplaintRepository.StatusRow> accepted = new ArrayList<>();
+        for (Long id : ids) {
+            ComplaintRepository.StatusRow row = rowsById.get(id);
+            if (row == null) {
+                response.addFailure(id, "Complaint not found with id: " + id);
+                continue;
+            }
+            try {
+                transitions.put(row.getStatus(), complaintWorkflow.check(row.getStatus(), newStatus, updatedBy));
+            } catch (IllegalArgumentException | IllegalStateException | AccessDeniedException e) {
+                response.addFailure(id, e.getMessage());
+                continue;
+            }
+            idsByOldStatus.computeIfAbsent(row.getStatus(), k -> new ArrayList<>()).add(id);
+            accepted.add(row);
+            response.addSuccess(id);
+        }
+        if (accepted.isEmpty()) {
+            return response;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> acceptedIds = new ArrayList<>(accepted.size());
+        accepted.forEach(row -> acceptedIds.add(row.getId()));
+        complaintStatsService.statusChanging(acceptedIds, newStatus);
+        complaintRollupService.statusChanging(acceptedIds, newStatus);
+        for (Map.Entry<ComplaintStatus, List<Long>> entry : idsByOldStatus.entrySet()) {
+            complaintRepository.updateStatusByIdIn(entry.getValue(), entry.getKey(), newStatus, now);
+        }
+
+        List<UpdateRow> updates = new ArrayList<>();
+        List<UserNotificationRow> userNotifications = new ArrayList<>();
+        List<NotificationRow> adminNotifications = new ArrayList<>();
+        List<EmailService.StatusUpdateEmail> emails = new ArrayList<>();
+        for (ComplaintRepository.StatusRow row : accepted) {
+            ComplaintStatus oldStatus = row.getStatus();
+            ComplaintWorkflow.Transition transition = transitions.get(oldStatus);
+            if (updatedBy != null) {
+                updates.add(new UpdateRow(row.getId(), updatedBy.getId(), oldStatus, newStatus,
+                        request.getComments(), now));
+            }
+
+            // Notify the owner, as configured for the transition
+            boolean notifyOwner = row.getOwnerId() != null && !row.isAnonymous();
+            if (notifyOwner && transition.has(ComplaintWorkflow.SideEffect.OWNER_EMAIL)) {
+                emails.add(new EmailService.StatusUpdateEmail(row.getOwnerEmail(), row.getComplaintNumber(),
+                        oldStatus.name(), newStatus.name(), row.getTitle()));
+            }
+            if (notifyOwner && transition.has(ComplaintWorkflow.SideEffect.OWNER_NOTIFICATION)) {
+                userNotifications.add(new UserNotificationRow(row.getOwnerId(), "STATUS_UPDATE",
+                        "Your complaint '" + row.getTitle() + "' status changed to "
+                                + newStatus.name().replace("_", " "),
+                        row.getId(), now));
+            }
+
+            // Notify admin when an escalated complaint is resolved
+            if (row.isEscalated() && transition.has(ComplaintWorkflow.SideEffect.ESCALATED_ADMIN_NOTIFICATION)) {
+                adminNotifications.add(new NotificationRow("ESCALATED_RESOLVED",
+                        "⚠️ Escalated complaint '" + row.getTitle() + "' (" + row.getComplaintNumber()
+                                + ") has been " + newStatus + ". Please review and close.",
+                        row.getId(), null, now));
+            }
+        }
+        complaintBatchRepository.insertUpdates(updates);
+        complaintBatchRepository.insertUserNotifications(userNotifications);
+        complaintBatchRepository.insertNotifications(adminNotifications);
+
+        complaintViewService.refreshAll(acceptedIds);
+        complaintSearchService.reindexAll(acceptedIds);
+        complaintCache.evictAll(acceptedIds);
+        sendAfterCommit(emails);
+
+        return response;
+    }
+
+    /**
+     * Assigns many complaints in one transaction with a single UPDATE per
+     * assignee. Returns counts only, no complaint DTOs. A filter must set at
+     * least one criterion - an empty filter would match every complaint.
+     */
+    @Transactional
+    public BulkAssignResponse assign(BulkAssignRequest request) {
+        BulkAssignRequest.Filter filter = request.getFilter();
+        requireCriteria(filter);
+        Map<Long, List<Long>> idsByAssignee = filter != null
+                ? planFromFilter(request)
+                : planFromAssignments(request.getAssignments());
+
+        Set<Long> knownUsers = new HashSet<>();
+        for (UserRepository.UserDisplay user : userRepository.findDisplayByIdIn(idsByAssignee.keySet())) {
+            knownUsers.add(user.getId());
+        }
+        for (Long assigneeId : idsByAssignee.keySet()) {
+            if (!knownUsers.contains(assigneeId)) {
+                throw new IllegalArgumentException("User not found with id: " + assigneeId);
+            }
+        }
+
+        List<Long> requestedIds = new ArrayList<>();
+        idsByAssignee.values().forEach(requestedIds::addAll);
+        Set<Long> existing = new HashSet<>(complaintRepository.findExistingIds(requestedIds));
+
+        BulkAssignResponse response = new BulkAssignResponse();
+        response.setRequested(requestedIds.size());
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> assignedIds = new ArrayList<>();
+        for (Map.Entry<Long, List<Long>> entry : idsByAssignee.entrySet()) {
+            List<Long> ids = new ArrayList<>();
+            for (Long id : entry.getValue()) {
+                if (existing.contains(id)) {
+                    ids.add(id);
+                } else {
+                    response.getNotFound().add(id);
+                }
+            }
+            if (ids.isEmpty()) {
+                continue;
+            }
+            int updated = complaintRepository.assignByIdIn(ids,
+                    userRepository.getReferenceById(entry.getKey()), now);
+            response.getAssignedPerUser().put(entry.getKey(), updated);
+            response.setAssigned(response.getAssigned() + updated);
+            assignedIds.addAll(ids);
+        }
+
+        complaintViewService.refreshAll(assignedIds);
+        complaintCache.evictAll(assignedIds);
+        return response;
+    }
+
+    /**
+     * Deletes the given complaints, or every complaint matching the filter,
+     * with one set-based DELETE per child table. Files are removed after commit.
+     * Exactly one of ids and filter must be given, and the filter must set at
+     * least one criterion - an empty filter would match every complaint.
+     */
+    @Transactional
+    public BulkOperationResponse delete(BulkDeleteRequest request) {
+        BulkAssignRequest.Filter filter = request.getFilter();
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (filter != null && hasIds) {
+            throw new IllegalArgumentException("Send either ids or filter, not both");
+        }
+        requireCriteria(filter);
+        List<Long> ids = filter != null ? findIds(filter) : distinctIds(request.getIds());
+
+        BulkOperationResponse response = new BulkOperationResponse();
+        if (ids.isEmpty()) {
+            return response;
+        }
+        Set<Long> existing = new HashSet<>(complaintRepository.lockExistingIds(ids));
+        List<Long> deletable = new ArrayList<>(existing.size());
+        for (Long id : ids) {
+            if (existing.contains(id)) {
+                deletable.add(id);
+                response.addSuccess(id);
+            } else {
+                response.addFailure(id, "Complaint not found with id: " + id);
+            }
+        }
+        deleteCascade(deletable);
+        return response;
+    }
+
+    /**
+     * Removes complaints and their comments, attachments and updates without
+     * loading any entity: one DELETE per table. Stored files are queued for
+     * deletion once the transaction commits. Callers check existence and lock.
+     */
+    @Transactional
+    public void deleteCascade(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<String> fileNames = attachmentRepository.findFileNamesByComplaintIdIn(ids);
+        complaintStatsService.deleting(ids);
+        complaintRollupService.deleting(ids);
+        commentRepository.deleteByComplaintIdIn(ids);
+        attachmentRepository.deleteByComplaintIdIn(ids);
+        complaintUpdateRepository.deleteByComplaintIdIn(ids);
+        complaintRepository.deleteByIdIn(ids);
+
+        if (!fileNames.isEmpty()) {
+            fileCleanupService.deleteAfterCommit(fileNames);
+        }
+        complaintViewService.removeAll(ids);
+        complaintSearchService.reindexAll(ids);
+        complaintCache.evictAll(ids);
+        complaintAccess.forget(ids);
+    }
+
+    private Map<Long, List<Long>> planFromAssignments(List<BulkAssignRequest.Assignment> assignments) {
+        if (assignments == null || assignments.isEmpty()) {
+            throw new IllegalArgumentException("Either assignments or a filter with assigneeIds is required");
+        }
+        Map<Long, List<Long>> idsByAssignee = new LinkedHashMap<>();
+        Set<Long> seen = new HashSet<>();
+        for (BulkAssignRequest.Assignment assignment : assignments) {
+            if (assignment.getAssigneeId() == null) {
+                throw new IllegalArgumentException("assigneeId is required for every assignment");
+            }
+            List<Long> ids = idsByAssignee.computeIfAbsent(assignment.getAssigneeId(), k -> new ArrayList<>());
+            for (Long id : assignment.getComplaintIds()) {
+                if (id == null) {
+                    continue;
+                }
+                if (!seen.add(id)) {
+                    throw new IllegalArgumentException("Complaint " + id + " appears in more than one assignment");
+                }
+                ids.add(id);
+            }
+        }
+        if (seen.isEmpty()) {
+            throw new IllegalArgumentException("At least one complaint ID is required");
+        }
+        if (seen.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " complaints can be assigned at once");
+        }
+        return idsByAssignee;
+    }
+
+    // Matching complaints are spread round-robin across the assignees, oldest first
+    private Map<Long, List<Long>> planFromFilter(BulkAssignRequest request) {
+        List<Long> assigneeIds = distinctIds(request.getAssigneeIds());
+        List<Long> ids = findIds(request.getFilter());
+
+        Map<Long, List<Long>> idsByAssignee = new LinkedHashMap<>();
+        for (Long assigneeId : assigneeIds) {
+            idsByAssignee.put(assigneeId, new ArrayList<>());
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            idsByAssignee.get(assigneeIds.get(i % assigneeIds.size())).add(ids.get(i));
+        }
+        return idsByAssignee;
+    }
+
+    // An empty filter would match every complaint
+    private static void requireCriteria(BulkAssignRequest.Filter filter) {
+        if (filter != null && !filter.hasCriteria()) {
+            throw new IllegalArgumentException("Filter must set at least one of status, category, priority "
+                    + "or unassignedOnly");
+        }
+    }
+
+    // IDs of the complaints matching the filter, oldest first, at most MAX_BULK_SIZE
+    private List<Long> findIds(BulkAssignRequest.Filter filter) {
+        Specification<Complaint> spec = ComplaintSpecifications.all();
+        if (filter.getStatus() != null) {
+            spec = spec.and(ComplaintSpecifications.hasStatus(filter.getStatus()));
+        }
+        if (filter.getCategory() != null && !filter.getCategory().isBlank()) {
+            spec = spec.and(ComplaintSpecifications.hasCategory(filter.getCategory()));
+        }
+        if (filter.getPriority() != null && !filter.getPriority().isBlank()) {
+            spec = spec.and(ComplaintSpecifications.hasPriority(filter.getPriority()));
+        }
+        if (filter.isUnassignedOnly()) {
+            spec = spec.and(ComplaintSpecifications.unassigned());
+        }
+
+        List<Long> ids = complaintRepository.findIds(spec, MAX_BULK_SIZE + 1);
+        if (ids.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException(
+                    "Filter matches more than " + MAX_BULK_SIZE + " complaints; narrow it down");
+        }
+        return ids;
+    }
+
+    private List<Long> distinctIds(List<Long> requested) {
+        if (requested == null || requested.isEmpty()) {
+            throw new IllegalArgumentException("At least one ID is required");
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Long id : requested) {
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        if (ids.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " IDs can be processed at once");
+        }
+        return new ArrayList<>(ids);
+    }
+
+    private void sendAfterCommit(List<EmailService.StatusUpdateEmail> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> emailService.sendStatusUpdateEmails(emails));
+    }
+}
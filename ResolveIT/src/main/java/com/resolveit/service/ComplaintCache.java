@@ -0,0 +1,46 @@
+package com.resolveit.service;
+
+import com.resolveit.config.CacheConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ComplaintCache - Invalidation for cached ComplaintResponse objects
+ *
+ * Every write path that changes what GET /api/complaints/{id} returns calls
+ * evict(...) for the affected complaint. The entry is dropped immediately and
+ * again after the surrounding transaction commits. ComplaintService loads
+ * entries with @Cacheable(sync = true), i.e. inside Caffeine's per-key
+ * compute, so the after-commit evict waits for a load that raced the write
+ * and removes what it stored; the load cannot put its stale DTO back later.
+ */
+@Component
+public class ComplaintCache {
+
+    private final Cache cache;
+
+    @Autowired
+    public ComplaintCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CacheConfig.COMPLAINTS_CACHE);
+    }
+
+    public void evict(Long complaintId) {
+        evictAll(List.of(complaintId));
+    }
+
+    public void evictAll(Collection<Long> complaintIds) {
+        List<Long> ids = List.copyOf(complaintIds);
+        ids.forEach(cache::evict);
+        AfterCommit.always(() -> ids.forEach(cache::evict));
+    }
+
+    public void clear() {
+        cache.clear();
+        AfterCommit.always(cache::clear);
+    }
+}
@@ -0,0 +1,208 @@
+package com.resolveit.service;
+
+import com.resolveit.dto.AttachmentResponse;
+import com.resolveit.dto.ComplaintResponse;
+import com.resolveit.dto.ComplaintUpdateResponse;
+import com.resolveit.model.Attachment;
+import com.resolveit.model.Complaint;
+import com.resolveit.model.ComplaintUpdate;
+import com.resolveit.repository.AttachmentRepository;
+import com.resolveit.repository.ComplaintUpdateRepository;
+import com.resolveit.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * ComplaintDtoAssembler - Builds ComplaintResponse DTOs in batches
+ *
+ * Converting complaints one by one costs an attachment query, an update query
+ * and two lazy user loads per row. This assembler instead takes a whole list of
+ * complaints and loads their children with a fixed number of IN (...) queries
+ * per chunk of IDs:
+ * - attachments for the chunk
+ * - complaint updates for the chunk: the full history (newest first) when
+ *   includeUpdates is set, otherwise only the latest update per complaint
+ * - display fields of every referenced user (owner, assignee, updater)
+ *
+ * The results are grouped by complaint ID and stitched together in memory.
+ * Callers must invoke it inside a transaction so lazy proxies resolve their IDs.
+ */
+@Component
+public class ComplaintDtoAssembler {
+
+    // Keeps IN (...) lists well below database parameter limits
+    private static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private ComplaintUpdateRepository complaintUpdateRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    public ComplaintResponse toResponse(Complaint complaint) {
+        return toResponse(complaint, false);
+    }
+
+    public ComplaintResponse toResponse(Complaint complaint, boolean includeUpdates) {
+        return toResponses(Collections.singletonList(complaint), includeUpdates).get(0);
+    }
+
+    public List<ComplaintResponse> toResponses(List<Complaint> complaints) {
+        return toResponses(complaints, false);
+    }
+
+    public List<ComplaintResponse> toResponses(List<Complaint> complaints, boolean includeUpdates) {
+        List<ComplaintResponse> responses = new ArrayList<>(complaints.size());
+        for (int from = 0; from < complaints.size(); from += CHUNK_SIZE) {
+            List<Complaint> chunk = complaints.subList(from, Math.min(from + CHUNK_SIZE, complaints.size()));
+            responses.addAll(assembleChunk(chunk, includeUpdates));
+        }
+        return responses;
+    }
+
+    private List<ComplaintResponse> assembleChunk(List<Complaint> complaints, boolean includeUpdates) {
+        List<Long> complaintIds = new ArrayList<>(complaints.size());
+        for (Complaint complaint : complaints) {
+            complaintIds.add(complaint.getId());
+        }
+
+        Map<Long, List<Attachment>> attachmentsByComplaint = new HashMap<>();
+        for (Attachment attachment : attachmentRepository.findByComplaintIdIn(complaintIds)) {
+            attachmentsByComplaint
+                    .computeIfAbsent(attachment.getComplaint().getId(), k -> new ArrayList<>())
+                    .add(attachment);
+        }
+
+        // Updates arrive ordered newest first, so each per-complaint list keeps that order
+        Map<Long, List<ComplaintUpdate>> updatesByComplaint = new HashMap<>();
+        Set<Long> userIds = new HashSet<>();
+        List<ComplaintUpdate> updates = includeUpdates
+                ? complaintUpdateRepository.findByComplaintIdInOrderByUpdatedAtDesc(complaintIds)
+                : complaintUpdateRepository.findLatestByComplaintIdIn(complaintIds);
+        for (ComplaintUpdate update : updates) {
+            List<ComplaintUpdate> forComplaint = updatesByComplaint
+                    .computeIfAbsent(update.getComplaint().getId(), k -> new ArrayList<>());
+            // Without the history only the latest update is needed (for lastAdminComment)
+            if (!includeUpdates && !forComplaint.isEmpty()) {
+                continue;
+            }
+            forComplaint.add(update);
+            if (includeUpdates && update.getUpdatedBy() != null) {
+                userIds.add(update.getUpdatedBy().getId());
+            }
+        }
+
+        for (Complaint complaint : complaints) {
+            if (complaint.getCreatedBy() != null) {
+                userIds.add(complaint.getCreatedBy().getId());
+            }
+            if (complaint.getAssignedTo() != null) {
+                userIds.add(complaint.getAssignedTo().getId());
+            }
+        }
+
+        Map<Long, UserRepository.UserDisplay> usersById = new HashMap<>();
+        if (!userIds.isEmpty()) {
+            for (UserRepository.UserDisplay user : userRepository.findDisplayByIdIn(userIds)) {
+                usersById.put(user.getId(), user);
+            }
+        }
+
+        List<ComplaintResponse> responses = new ArrayList<>(complaints.size());
+        for (Complaint complaint : complaints) {
+            responses.add(assemble(complaint,
+                    attachmentsByComplaint.getOrDefault(complaint.getId(), Collections.emptyList()),
+                    updatesByComplaint.getOrDefault(complaint.getId(), Collections.emptyList()),
+                    usersById, includeUpdates));
+        }
+        return responses;
+    }
+
+    private ComplaintResponse assemble(Complaint complaint, List<Attachment> attachments,
+            List<ComplaintUpdate> updates, Map<Long, UserRepository.UserDisplay> usersById,
+            boolean includeUpdates) {
+        ComplaintResponse response = new ComplaintResponse();
+        response.setId(complaint.getId());
+        response.setComplaintNumber(complaint.getComplaintNumber());
+        response.setTitle(complaint.getTitle());
+        response.setDescription(complaint.getDescription());
+        response.setStatus(complaint.getStatus());
+        response.setCategory(complaint.getCategory());
+        response.setPriority(complaint.getPriority());
+        response.setCreatedAt(complaint.getCreatedAt());
+        response.setUpdatedAt(complaint.getUpdatedAt());
+        response.setAnonymous(complaint.isAnonymous());
+
+        // Set created by user details - hide if anonymous
+        if (complaint.getCreatedBy() != null) {
+            if (complaint.isAnonymous()) {
+                response.setCreatedBy("Anonymous");
+            } else {
+                UserRepository.UserDisplay owner = usersById.get(complaint.getCreatedBy().getId());
+                response.setCreatedBy(owner != null ? owner.getName() : null);
+            }
+        }
+
+        // Set assigned to user details if exists
+        if (complaint.getAssignedTo() != null) {
+            UserRepository.UserDisplay assignee = usersById.get(complaint.getAssignedTo().getId());
+            response.setAssignedTo(assignee != null ? assignee.getUsername() : null);
+        }
+
+        // Set attachments
+        List<AttachmentResponse> attachmentDtos = new ArrayList<>(attachments.size());
+        for (Attachment att : attachments) {
+            AttachmentResponse attResponse = new AttachmentResponse();
+            attResponse.setId(att.getId());
+            attResponse.setFileName(att.getFileName());
+            attResponse.setFileType(att.getFileType());
+            attResponse.setDownloadUrl("/api/complaints/attachments/" + att.getId());
+            attachmentDtos.add(attResponse);
+        }
+        response.setAttachments(attachmentDtos);
+
+        // Set last admin comment from most recent update
+        if (!updates.isEmpty()) {
+            ComplaintUpdate latestUpdate = updates.get(0);
+            if (latestUpdate.getComments() != null && !latestUpdate.getComments().isEmpty()) {
+                response.setLastAdminComment(latestUpdate.getComments());
+            }
+        }
+
+        // Set all updates with comments for history, if requested
+        response.setUpdates(includeUpdates ? toUpdateDtos(updates, usersById) : null);
+
+        // Set escalation info
+        response.setEscalated(complaint.isEscalated());
+        response.setEscalatedAt(complaint.getEscalatedAt());
+
+        return response;
+    }
+
+    private List<ComplaintUpdateResponse> toUpdateDtos(List<ComplaintUpdate> updates,
+            Map<Long, UserRepository.UserDisplay> usersById) {
+        List<ComplaintUpdateResponse> updateDtos = new ArrayList<>();
+        for (ComplaintUpdate u : updates) {
+            if (u.getComments() == null || u.getComments().isEmpty()) {
+                continue;
+            }
+            ComplaintUpdateResponse updateDto = new ComplaintUpdateResponse();
+            updateDto.setId(u.getId());
+            updateDto.setOldStatus(u.getOldStatus());
+            updateDto.setNewStatus(u.getNewStatus());
+            updateDto.setComments(u.getComments());
+            updateDto.setUpdatedAt(u.getUpdatedAt());
+            if (u.getUpdatedBy() != null) {
+                UserRepository.UserDisplay updater = usersById.get(u.getUpdatedBy().getId());
+                updateDto.setUpdatedBy(updater != null ? updater.getUsername() : null);
+            }
+            updateDtos.add(updateDto);
+        }
+        return updateDtos;
+    }
+}
@@ -0,0 +1,366 @@
+package com.resolveit.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.resolveit.dto.ComplaintImportRow;
+import com.resolveit.dto.ComplaintRequest;
+import com.resolveit.dto.ImportProgress;
+import com.resolveit.model.ComplaintStatus;
+import com.resolveit.repository.ComplaintBatchRepository;
+import com.resolveit.repository.ComplaintBatchRepository.ComplaintRow;
+import com.resolveit.repository.ComplaintRepository;
+import com.resolveit.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ComplaintImportService - Bulk import of complaints from CSV or NDJSON
+ *
+ * The upload is spooled to a temporary file and processed by a background
+ * worker, one row at a time:
+ * - each row is validated against the ComplaintRequest constraints
+ * - owners are resolved by email through a bounded cache; unknown emails of a
+ *   chunk are looked up with one IN (...) query
+ * - complaint numbers are reserved for the whole chunk at once
+ * - the chunk is inserted with JDBC batching in its own transaction
+ * Bad rows are skipped and reported; progress is available by job ID.
+ * Only one chunk of rows is held in memory at any time.
+ */
+@Service
+public class ComplaintImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ComplaintImportService.class);
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int OWNER_CACHE_SIZE = 10_000;
+    private static final int MAX_FINISHED_JOBS = 50;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ComplaintBatchRepository complaintBatchRepository;
+
+    @Autowired
+    private ComplaintNumberAllocator complaintNumberAllocator;
+
+    @Autowired
+    private ComplaintViewService complaintViewService;
+
+    @Autowired
+    private ComplaintSearchService complaintSearchService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ComplaintStatsService complaintStatsService;
+
+    @Autowired
+    private ComplaintRollupService complaintRollupService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    // Imports run one at a time so they do not compete for the connection pool
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "complaint-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, ImportProgress> jobs = new ConcurrentHashMap<>();
+
+    public ComplaintImportService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Spools the upload to disk and queues the import.
+     *
+     * @param format "csv" or "ndjson"; derived from the file name when null
+     */
+    public ImportProgress startImport(MultipartFile file, String format) throws IOException {
+        boolean csv = isCsv(file.getOriginalFilename(), format);
+        Path spool = Files.createTempFile("complaint-import-", csv ? ".csv" : ".ndjson");
+        file.transferTo(spool);
+
+        ImportProgress progress = new ImportProgress(UUID.randomUUID().toString(), file.getOriginalFilename());
+        pruneFinishedJobs();
+        jobs.put(progress.getJobId(), progress);
+        worker.submit(() -> run(spool, csv, progress));
+        return progress;
+    }
+
+    public Optional<ImportProgress> getProgress(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    private void run(Path spool, boolean csv, ImportProgress progress) {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(spool))) {
+            importRows(reader(csv).readValues(in), progress);
+            progress.finish(ImportProgress.State.COMPLETED,
+                    "Imported " + progress.getImported() + " of " + progress.getRowsRead() + " rows");
+        } catch (Exception e) {
+            logger.error("Complaint import {} failed: {}", progress.getJobId(), e.getMessage());
+            progress.finish(ImportProgress.State.FAILED, "Import stopped at row " + progress.getRowsRead()
+                    + ": " + e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(spool);
+            } catch (IOException e) {
+                logger.warn("Could not delete import spool file {}", spool);
+            }
+        }
+        logger.info("Complaint import {} finished: {} imported, {} skipped",
+                progress.getJobId(), progress.getImported(), progress.getSkipped());
+    }
+
+    private void importRows(MappingIterator<ComplaintImportRow> rows, ImportProgress progress) throws IOException {
+        Map<String, Long> ownerCache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > OWNER_CACHE_SIZE;
+            }
+        };
+        List<PendingRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        while (true) {
+            ComplaintImportRow row;
+            try {
+                if (!rows.hasNextValue()) {
+                    break;
+                }
+                progress.rowRead();
+                row = rows.nextValue();
+            } catch (JsonParseException e) {
+                // The file itself is malformed past this point; nothing after it can be trusted
+                throw e;
+            } catch (JsonMappingException e) {
+                progress.skip(progress.getRowsRead(), "Unreadable row: " + e.getOriginalMessage());
+                continue;
+            }
+
+            PendingRow pending = toPending(row, progress.getRowsRead(), progress);
+            if (pending != null) {
+                chunk.add(pending);
+            }
+            if (chunk.size() == CHUNK_SIZE) {
+                writeChunk(chunk, ownerCache, progress);
+                chunk.clear();
+            }
+        }
+        writeChunk(chunk, ownerCache, progress);
+    }
+
+    private PendingRow toPending(ComplaintImportRow row, long rowNumber, ImportProgress progress) {
+        ComplaintRequest request = new ComplaintRequest();
+        request.setTitle(trimToNull(row.getTitle()));
+        request.setDescription(trimToNull(row.getDescription()));
+        request.setCategory(trimToNull(row.getCategory()));
+        request.setPriority(trimToNull(row.getPriority()));
+        request.setAnonymous(parseBoolean(row.getAnonymous()));
+
+        Set<ConstraintViolation<ComplaintRequest>> violations =
+                validator.validate(request, ComplaintRequest.OnCreate.class);
+        if (!violations.isEmpty()) {
+            StringJoiner reason = new StringJoiner("; ");
+            for (ConstraintViolation<ComplaintRequest> violation : violations) {
+                reason.add(violation.getPropertyPath() + " " + violation.getMessage());
+            }
+            progress.skip(rowNumber, reason.toString());
+            return null;
+        }
+
+        String ownerEmail = trimToNull(row.getOwnerEmail());
+        if (ownerEmail == null) {
+            progress.skip(rowNumber, "ownerEmail is required");
+            return null;
+        }
+
+        ComplaintStatus status = ComplaintStatus.NEW;
+        if (trimToNull(row.getStatus()) != null) {
+            try {
+                status = ComplaintStatus.valueOf(row.getStatus().trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                progress.skip(rowNumber, "Invalid status: " + row.getStatus());
+                return null;
+            }
+        }
+
+        LocalDateTime createdAt = null;
+        if (trimToNull(row.getCreatedAt()) != null) {
+            try {
+                createdAt = LocalDateTime.parse(row.getCreatedAt().trim());
+            } catch (DateTimeParseException e) {
+                progress.skip(rowNumber, "Invalid createdAt (expected ISO-8601): " + row.getCreatedAt());
+                return null;
+            }
+        }
+
+        return new PendingRow(rowNumber, request, ownerEmail.toLowerCase(), status, createdAt);
+    }
+
+    private void writeChunk(List<PendingRow> chunk, Map<String, Long> ownerCache, ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        resolveOwners(chunk, ownerCache);
+
+        List<PendingRow> accepted = new ArrayList<>(chunk.size());
+        for (PendingRow pending : chunk) {
+            if (ownerCache.get(pending.ownerEmail()) != null) {
+                accepted.add(pending);
+            } else {
+                progress.skip(pending.rowNumber(), "Unknown owner: " + pending.ownerEmail());
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        long firstNumber = complaintNumberAllocator.reserve(accepted.size());
+        LocalDateTime now = LocalDateTime.now();
+        List<ComplaintRow> rows = new ArrayList<>(accepted.size());
+        List<String> numbers = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            PendingRow pending = accepted.get(i);
+            ComplaintRequest request = pending.request();
+            String number = ComplaintNumberAllocator.format(firstNumber + i);
+            numbers.add(number);
+            rows.add(new ComplaintRow(number, request.getTitle(), request.getDescription(), pending.status(),
+                    request.getCategory(), request.getPriority(), request.isAnonymous(),
+                    ownerCache.get(pending.ownerEmail()),
+                    pending.createdAt() != null ? pending.createdAt() : now));
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                complaintBatchRepository.insertComplaints(rows);
+                List<Long> ids = complaintRepository.findIdsByComplaintNumberIn(numbers);
+                complaintViewService.refreshAll(ids);
+                complaintSearchService.reindexAll(ids);
+                complaintStatsService.imported(rows);
+                complaintRollupService.imported(rows);
+            });
+            progress.imported(rows.size());
+        } catch (RuntimeException e) {
+            logger.warn("Complaint import {}: chunk of {} rows rolled back: {}",
+                    progress.getJobId(), rows.size(), e.getMessage());
+            for (PendingRow pending : accepted) {
+                progress.skip(pending.rowNumber(), "Chunk rolled back: " + e.getMessage());
+            }
+        }
+    }
+
+    // Looks up every owner email of the chunk that is not cached yet with one query
+    private void resolveOwners(List<PendingRow> chunk, Map<String, Long> ownerCache) {
+        Set<String> missing = new HashSet<>();
+        for (PendingRow pending : chunk) {
+            if (!ownerCache.containsKey(pending.ownerEmail())) {
+                missing.add(pending.ownerEmail());
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        for (UserRepository.UserEmail user : userRepository.findIdByEmailIn(missing)) {
+            ownerCache.put(user.getEmail().toLowerCase(), user.getId());
+            missing.remove(user.getEmail().toLowerCase());
+        }
+        // Remember unknown emails too, so they are not queried again
+        for (String email : missing) {
+            ownerCache.put(email, null);
+        }
+    }
+
+    private ObjectReader reader(boolean csv) {
+        if (csv) {
+            CsvSchema schema = CsvSchema.emptySchema().withHeader();
+            return new CsvMapper().readerFor(ComplaintImportRow.class).with(schema);
+        }
+        return objectMapper.readerFor(ComplaintImportRow.class);
+    }
+
+    private boolean isCsv(String fileName, String format) {
+        if (format != null && !format.isBlank()) {
+            if ("csv".equalsIgnoreCase(format)) {
+                return true;
+            }
+            if ("ndjson".equalsIgnoreCase(format) || "jsonl".equalsIgnoreCase(format)) {
+                return false;
+            }
+            throw new IllegalArgumentException("Unsupported import format: " + format + ". Use csv or ndjson.");
+        }
+        if (fileName != null && fileName.toLowerCase().endsWith(".csv")) {
+            return true;
+        }
+        if (fileName != null && (fileName.toLowerCase().endsWith(".ndjson") || fileName.toLowerCase().endsWith(".jsonl"))) {
+            return false;
+        }
+        throw new IllegalArgumentException("Cannot tell the file format; pass format=csv or format=ndjson");
+    }
+
+    private void pruneFinishedJobs() {
+        if (jobs.size() < MAX_FINISHED_JOBS) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(job -> job.getState() != ImportProgress.State.RUNNING)
+                .min(Comparator.comparing(ImportProgress::getStartedAt))
+                .ifPresent(job -> jobs.remove(job.getJobId()));
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static boolean parseBoolean(String value) {
+        String trimmed = trimToNull(value);
+        return trimmed != null && ("true".equalsIgnoreCase(trimmed) || "yes".equalsIgnoreCase(trimmed)
+                || "1".equals(trimmed));
+    }
+
+    private record PendingRow(long rowNumber, ComplaintRequest request, String ownerEmail,
+            ComplaintStatus status, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,159 @@
+package com.resolveit.service;
+
+import com.resolveit.model.IdSequence;
+import com.resolveit.repository.ComplaintRepository;
+import com.resolveit.repository.IdSequenceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ComplaintNumberAllocator - Hands out CMP-xxxxx numbers without a read query
+ *
+ * Uses hi/lo block allocation backed by the id_sequences table:
+ * - A node reserves a block of values (complaint.number.block-size, default 50)
+ *   by advancing the sequence row under a row lock in its own transaction.
+ * - Numbers inside the block come from an atomic counter, so complaint
+ *   creation needs no query at all until the block runs out.
+ * - Blocks never overlap, so concurrent threads and nodes cannot produce
+ *   duplicates. Unused values of a block are lost on restart (gaps are fine).
+ *
+ * On first use the sequence row is seeded from the highest existing number.
+ * A complaint reset renumbers from the sequence's current value instead of
+ * CMP-00001, so it never reuses a number that may still sit in another node's
+ * block.
+ */
+@Component
+public class ComplaintNumberAllocator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ComplaintNumberAllocator.class);
+
+    static final String SEQUENCE_NAME = "complaint_number";
+
+    @Value("${complaint.number.block-size:50}")
+    private int blockSize;
+
+    @Autowired
+    private IdSequenceRepository idSequenceRepository;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    private final TransactionTemplate requiresNew;
+
+    // Starts exhausted so the first call reserves a block
+    private volatile Block current = new Block(0, 0);
+
+    public ComplaintNumberAllocator(PlatformTransactionManager transactionManager) {
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public String nextComplaintNumber() {
+        return format(nextValue());
+    }
+
+    public static String format(long value) {
+        return String.format("CMP-%05d", value);
+    }
+
+    long nextValue() {
+        while (true) {
+            Block block = current;
+            long value = block.next.getAndIncrement();
+            if (value < block.end) {
+                return value;
+            }
+            synchronized (this) {
+                // Only the first thread to see the exhausted block reserves a new one
+                if (current == block) {
+                    current = reserveBlock(blockSize);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reserves a dedicated range of count consecutive values for a batch
+     * writer (e.g. the bulk import) and returns its first value. The range is
+     * taken from the sequence row directly and does not touch the local block.
+     */
+    public long reserve(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be positive");
+        }
+        return reserveBlock(count).next.get();
+    }
+
+    /**
+     * First value a full renumbering (complaint reset) may use. Locks the
+     * sequence row in the caller's transaction until it commits and returns
+     * its next value: every number handed out so far, including the unused
+     * rest of blocks other nodes still hold, lies below it, so a renumbering
+     * from here can never collide with them. Finish with
+     * reset(start + count).
+     */
+    public synchronized long lockForRenumber() {
+        IdSequence sequence = idSequenceRepository.findForUpdate(SEQUENCE_NAME)
+                .orElseGet(() -> idSequenceRepository.saveAndFlush(seedSequence()));
+        return sequence.getNextValue();
+    }
+
+    /**
+     * Moves numbering on after complaint numbers were re-serialized from
+     * lockForRenumber(): new numbers start at nextValue. The sequence never
+     * goes backwards. Joins the caller's transaction; the local block is
+     * dropped immediately.
+     */
+    public synchronized void reset(long nextValue) {
+        IdSequence sequence = idSequenceRepository.findForUpdate(SEQUENCE_NAME)
+                .orElseGet(() -> new IdSequence(SEQUENCE_NAME, nextValue));
+        sequence.setNextValue(Math.max(nextValue, sequence.getNextValue()));
+        idSequenceRepository.save(sequence);
+        current = new Block(0, 0);
+    }
+
+    private Block reserveBlock(int size) {
+        try {
+            return requiresNew.execute(status -> advanceSequence(size));
+        } catch (DataIntegrityViolationException e) {
+            // Another node seeded the row at the same time - its row is there now
+            return requiresNew.execute(status -> advanceSequence(size));
+        }
+    }
+
+    private Block advanceSequence(int size) {
+        IdSequence sequence = idSequenceRepository.findForUpdate(SEQUENCE_NAME)
+                .orElseGet(this::seedSequence);
+        long start = sequence.getNextValue();
+        sequence.setNextValue(start + size);
+        idSequenceRepository.saveAndFlush(sequence);
+        logger.debug("Reserved complaint numbers {} to {}", start, start + size - 1);
+        return new Block(start, start + size);
+    }
+
+    private IdSequence seedSequence() {
+        Long highest = complaintRepository.findHighestComplaintSequence();
+        long next = highest != null ? highest + 1 : 1;
+        logger.info("Seeding complaint number sequence at {}", next);
+        return new IdSequence(SEQUENCE_NAME, next);
+    }
+
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
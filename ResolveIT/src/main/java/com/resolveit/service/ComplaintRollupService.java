@@ -0,0 +1,178 @@
+package com.resolveit.service;
+
+import com.resolveit.model.Complaint;
+import com.resolveit.model.ComplaintStatus;
+import com.resolveit.repository.ComplaintBatchRepository.ComplaintRow;
+import com.resolveit.repository.ComplaintDailyRollupRepository;
+import com.resolveit.repository.ComplaintRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ComplaintRollupService - Maintains complaint_daily_rollup and answers trend queries
+ *
+ * Counters are keyed by creation day x current status x category. The write
+ * paths that create complaints or change their status or category call the
+ * hooks below, which run upserts inside the same transaction, so the rollup
+ * commits or rolls back together with the complaint change. Trend queries read at most one row per
+ * day, status and category of the range, whatever the number of complaints.
+ */
+@Service
+public class ComplaintRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ComplaintRollupService.class);
+
+    // Longest range a trend query may cover
+    private static final int MAX_RANGE_DAYS = 5 * 366;
+
+    public enum Bucket {
+        DAY, WEEK, MONTH
+    }
+
+    @Autowired
+    private ComplaintDailyRollupRepository rollupRepository;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    // ==================== Lifecycle hooks (call inside the write transaction) ====================
+
+    public void created(Complaint complaint) {
+        apply(Map.of(keyOf(complaint), 1L));
+    }
+
+    /**
+     * Complaints inserted by the JDBC import.
+     */
+    public void imported(Collection<ComplaintRow> rows) {
+        Map<RollupKey, Long> deltas = new HashMap<>();
+        for (ComplaintRow row : rows) {
+            deltas.merge(new RollupKey(row.createdAt().toLocalDate(), row.status(), row.category()), 1L, Long::sum);
+        }
+        apply(deltas);
+    }
+
+    /**
+     * A single complaint whose status or category was statusBefore /
+     * categoryBefore; nothing is written when neither changed.
+     */
+    public void changed(ComplaintStatus statusBefore, String categoryBefore, Complaint after) {
+        RollupKey before = new RollupKey(after.getCreatedAt().toLocalDate(), statusBefore, categoryBefore);
+        RollupKey key = keyOf(after);
+        if (!key.equals(before)) {
+            apply(Map.of(before, -1L, key, 1L));
+        }
+    }
+
+    /**
+     * Applies counter deltas keyed by (day, status, category); zero deltas are skipped.
+     */
+    public void apply(Map<RollupKey, Long> deltas) {
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                rollupRepository.addDelta(key.day(), key.status().name(), key.category(), delta);
+            }
+        });
+    }
+
+    /**
+     * Complaints about to move to newStatus. Must run before the status UPDATE.
+     */
+    public void statusChanging(Collection<Long> ids, ComplaintStatus newStatus) {
+        rollupRepository.subtractComplaints(ids);
+        rollupRepository.addComplaints(ids, newStatus.name());
+    }
+
+    /**
+     * Complaints about to be deleted. Must run before the DELETE.
+     */
+    public void deleting(Collection<Long> ids) {
+        rollupRepository.subtractComplaints(ids);
+    }
+
+    /**
+     * Backfill: regenerates the whole rollup from the complaints table with
+     * one GROUP BY.
+     *
+     * @return number of rollup rows written
+     */
+    @Transactional
+    public int rebuild() {
+        rollupRepository.deleteAllInBatch();
+        int rows = rollupRepository.insertFromComplaints();
+        logger.info("complaint_daily_rollup rebuilt with {} rows", rows);
+        return rows;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (rollupRepository.count() == 0 && complaintRepository.count() > 0) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Complaints created per bucket between from and to (inclusive), oldest
+     * first. Buckets without complaints are left out. Weeks start on Monday.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> trends(LocalDate from, LocalDate to, Bucket bucket, ComplaintStatus status,
+            String category) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        if (from.plusDays(MAX_RANGE_DAYS).isBefore(to)) {
+            throw new IllegalArgumentException("Range cannot exceed " + MAX_RANGE_DAYS + " days");
+        }
+
+        Map<LocalDate, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : rollupRepository.sumByDay(from, to, status, category)) {
+            long count = ((Number) row[1]).longValue();
+            if (count != 0) {
+                counts.merge(bucketStart((LocalDate) row[0], bucket), count, Long::sum);
+            }
+        }
+
+        List<Map<String, Object>> trends = new ArrayList<>(counts.size());
+        counts.forEach((start, count) -> {
+            Map<String, Object> point = new HashMap<>();
+            point.put("date", start.toString());
+            point.put("count", count);
+            trends.add(point);
+        });
+        return trends;
+    }
+
+    private static RollupKey keyOf(Complaint complaint) {
+        return new RollupKey(complaint.getCreatedAt().toLocalDate(), complaint.getStatus(), complaint.getCategory());
+    }
+
+    private static LocalDate bucketStart(LocalDate day, Bucket bucket) {
+        switch (bucket) {
+            case WEEK:
+                return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH:
+                return day.withDayOfMonth(1);
+            default:
+                return day;
+        }
+    }
+
+    public record RollupKey(LocalDate day, ComplaintStatus status, String category) {
+    }
+}
@@ -0,0 +1,355 @@
+package com.resolveit.service;
+
+import com.resolveit.dto.ComplaintSearchHit;
+import com.resolveit.dto.ComplaintSearchResponse;
+import com.resolveit.model.Complaint;
+import com.resolveit.model.ComplaintStatus;
+import com.resolveit.repository.CommentRepository;
+import com.resolveit.repository.ComplaintRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ComplaintSearchService - Embedded Lucene index over complaint text
+ *
+ * Indexes title, description and comment text of every complaint, plus
+ * status, category and priority as exact-match filter fields. Searches run
+ * against a near-real-time searcher and rank by BM25 relevance, with title
+ * matches weighted above description and comment matches.
+ *
+ * Write paths call reindex(...) with the changed complaint IDs. The IDs are
+ * queued after the transaction commits and indexed in batches by a single
+ * background thread; IDs whose complaint no longer exists are removed from
+ * the index. rebuild() regenerates the index from the database and runs at
+ * startup when the index is empty.
+ */
+@Service
+public class ComplaintSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ComplaintSearchService.class);
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_NUMBER = "complaintNumber";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_DESCRIPTION = "description";
+    private static final String FIELD_COMMENTS = "comments";
+    // Lower-cased copies for filtering; the original values are stored under *_display
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_CATEGORY = "category";
+    private static final String FIELD_PRIORITY = "priority";
+    private static final String FIELD_CATEGORY_DISPLAY = "category_display";
+    private static final String FIELD_PRIORITY_DISPLAY = "priority_display";
+
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            FIELD_TITLE, 3.0f,
+            FIELD_DESCRIPTION, 1.0f,
+            FIELD_COMMENTS, 0.5f);
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_RESULT_WINDOW = 10_000;
+
+    @Value("${complaint.search.index-dir:search-index}")
+    private String indexDir;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private final TransactionTemplate readOnly;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    // All index writes happen on this thread, so incremental updates never interleave with a rebuild
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "complaint-search-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    public ComplaintSearchService(PlatformTransactionManager transactionManager) {
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        directory = FSDirectory.open(Paths.get(indexDir).toAbsolutePath());
+        IndexWriterConfig config = new IndexWriterConfig(analyzer);
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (writer.getDocStats().numDocs == 0 && complaintRepository.count() > 0) {
+            rebuildAsync();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+        indexer.shutdown();
+        indexer.awaitTermination(30, TimeUnit.SECONDS);
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    // ==================== Search ====================
+
+    public ComplaintSearchResponse search(String q, ComplaintStatus status, String category, String priority,
+            int page, int size) throws IOException {
+        if (q == null || q.isBlank()) {
+            throw new IllegalArgumentException("Query parameter q is required");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        if ((long) (pageNumber + 1) * pageSize > MAX_RESULT_WINDOW) {
+            throw new IllegalArgumentException("Cannot page beyond the first " + MAX_RESULT_WINDOW + " results");
+        }
+
+        long started = System.nanoTime();
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        query.add(parseText(q), BooleanClause.Occur.MUST);
+        if (status != null) {
+            query.add(new TermQuery(new Term(FIELD_STATUS, status.name())), BooleanClause.Occur.FILTER);
+        }
+        if (category != null && !category.isBlank()) {
+            query.add(new TermQuery(new Term(FIELD_CATEGORY, category.trim().toLowerCase())),
+                    BooleanClause.Occur.FILTER);
+        }
+        if (priority != null && !priority.isBlank()) {
+            query.add(new TermQuery(new Term(FIELD_PRIORITY, priority.trim().toLowerCase())),
+                    BooleanClause.Occur.FILTER);
+        }
+
+        ComplaintSearchResponse response = new ComplaintSearchResponse();
+        response.setQuery(q);
+        response.setPage(pageNumber);
+        response.setSize(pageSize);
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            // Count hits exactly across the whole pageable window; beyond it the total is a lower bound
+            TopDocs top = searcher.search(query.build(),
+                    new TopScoreDocCollectorManager((pageNumber + 1) * pageSize, MAX_RESULT_WINDOW));
+            response.setTotalHits(top.totalHits.value);
+            response.setTotalHitsExact(top.totalHits.relation == TotalHits.Relation.EQUAL_TO);
+            StoredFields storedFields = searcher.storedFields();
+            for (int i = pageNumber * pageSize; i < top.scoreDocs.length; i++) {
+                ScoreDoc scoreDoc = top.scoreDocs[i];
+                response.getHits().add(toHit(storedFields.document(scoreDoc.doc), scoreDoc.score));
+            }
+        } finally {
+            searcherManager.release(searcher);
+        }
+        response.setTookMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return response;
+    }
+
+    private Query parseText(String q) {
+        String[] fields = FIELD_BOOSTS.keySet().toArray(new String[0]);
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(fields, analyzer, FIELD_BOOSTS);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        try {
+            // Plain text search; query syntax characters are taken literally
+            return parser.parse(QueryParser.escape(q));
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("Invalid search query: " + q, e);
+        }
+    }
+
+    private ComplaintSearchHit toHit(Document document, float score) {
+        ComplaintSearchHit hit = new ComplaintSearchHit();
+        hit.setId(Long.valueOf(document.get(FIELD_ID)));
+        hit.setComplaintNumber(document.get(FIELD_NUMBER));
+        hit.setTitle(document.get(FIELD_TITLE));
+        hit.setStatus(ComplaintStatus.valueOf(document.get(FIELD_STATUS)));
+        hit.setCategory(document.get(FIELD_CATEGORY_DISPLAY));
+        hit.setPriority(document.get(FIELD_PRIORITY_DISPLAY));
+        hit.setScore(score);
+        return hit;
+    }
+
+    // ==================== Index upkeep ====================
+
+    public void reindex(Long complaintId) {
+        reindexAll(List.of(complaintId));
+    }
+
+    /**
+     * Queues the complaints for (re)indexing once the current transaction
+     * commits. Deleted complaints are removed from the index.
+     */
+    public void reindexAll(Collection<Long> complaintIds) {
+        if (complaintIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(complaintIds);
+        AfterCommit.run(() -> enqueue(ids));
+    }
+
+    /**
+     * Schedules a full rebuild after the current transaction commits, for
+     * changes that touch every complaint (e.g. renumbering).
+     */
+    public void rebuildAfterCommit() {
+        AfterCommit.run(this::rebuildAsync);
+    }
+
+    public void rebuildAsync() {
+        indexer.submit(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                logger.error("Search index rebuild failed: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Regenerates the whole index from the database. Searches keep using the
+     * previous index until the rebuild is committed. Must run on the indexer
+     * thread (see rebuildAsync).
+     */
+    private void rebuild() throws IOException {
+        logger.info("Rebuilding complaint search index...");
+        long started = System.currentTimeMillis();
+        pending.clear();
+        writer.deleteAll();
+
+        long indexed = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = complaintRepository.findIdsAfter(afterId, PageRequest.of(0, BATCH_SIZE));
+            if (ids.isEmpty()) {
+                break;
+            }
+            indexBatch(ids);
+            indexed += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+        writer.commit();
+        searcherManager.maybeRefresh();
+        logger.info("Search index rebuilt with {} complaints in {} ms", indexed, System.currentTimeMillis() - started);
+    }
+
+    private void enqueue(Collection<Long> ids) {
+        pending.addAll(ids);
+        if (drainScheduled.compareAndSet(false, true)) {
+            indexer.submit(this::drain);
+        }
+    }
+
+    private void drain() {
+        drainScheduled.set(false);
+        try {
+            while (!pending.isEmpty()) {
+                List<Long> batch = new ArrayList<>(BATCH_SIZE);
+                Iterator<Long> iterator = pending.iterator();
+                while (iterator.hasNext() && batch.size() < BATCH_SIZE) {
+                    batch.add(iterator.next());
+                    iterator.remove();
+                }
+                indexBatch(batch);
+            }
+            writer.commit();
+            searcherManager.maybeRefresh();
+        } catch (Exception e) {
+            logger.error("Incremental search indexing failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void indexBatch(List<Long> ids) {
+        readOnly.executeWithoutResult(status -> {
+            Map<Long, List<String>> commentsByComplaint = new HashMap<>();
+            for (CommentRepository.CommentText comment : commentRepository.findTextByComplaintIdIn(ids)) {
+                commentsByComplaint.computeIfAbsent(comment.getComplaintId(), k -> new ArrayList<>())
+                        .add(comment.getContent());
+            }
+
+            Set<Long> missing = new HashSet<>(ids);
+            try {
+                for (Complaint complaint : complaintRepository.findAllById(ids)) {
+                    missing.remove(complaint.getId());
+                    writer.updateDocument(new Term(FIELD_ID, complaint.getId().toString()),
+                            toDocument(complaint, commentsByComplaint.getOrDefault(complaint.getId(), List.of())));
+                }
+                for (Long id : missing) {
+                    writer.deleteDocuments(new Term(FIELD_ID, id.toString()));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private Document toDocument(Complaint complaint, List<String> comments) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, complaint.getId().toString(), Field.Store.YES));
+        document.add(new StoredField(FIELD_NUMBER, complaint.getComplaintNumber()));
+        document.add(new TextField(FIELD_TITLE, nullToEmpty(complaint.getTitle()), Field.Store.YES));
+        document.add(new TextField(FIELD_DESCRIPTION, nullToEmpty(complaint.getDescription()), Field.Store.NO));
+        for (String comment : comments) {
+            document.add(new TextField(FIELD_COMMENTS, nullToEmpty(comment), Field.Store.NO));
+        }
+        document.add(new StringField(FIELD_STATUS, complaint.getStatus().name(), Field.Store.YES));
+        document.add(new StringField(FIELD_CATEGORY, nullToEmpty(complaint.getCategory()).toLowerCase(),
+                Field.Store.NO));
+        document.add(new StringField(FIELD_PRIORITY, nullToEmpty(complaint.getPriority()).toLowerCase(),
+                Field.Store.NO));
+        document.add(new StoredField(FIELD_CATEGORY_DISPLAY, nullToEmpty(complaint.getCategory())));
+        document.add(new StoredField(FIELD_PRIORITY_DISPLAY, nullToEmpty(complaint.getPriority())));
+        return document;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
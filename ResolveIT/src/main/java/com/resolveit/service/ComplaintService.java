@@ -1,21 +1,46 @@
 package com.resolveit.service;
 
+import com.resolveit.config.CacheConfig;
+import com.resolveit.dto.ComplaintCursor;
 import com.resolveit.dto.ComplaintRequest;
 import com.resolveit.dto.ComplaintResponse;
+import com.resolveit.dto.ComplaintSliceResponse;
+import com.resolveit.dto.ComplaintSummary;
+import com.resolveit.dto.ComplaintTimelineResponse;
+import com.resolveit.dto.FileCleanupProgress;
+import com.resolveit.dto.ComplaintUpdateResponse;
 import com.resolveit.dto.StatusUpdateRequest;
 import com.resolveit.model.*;
 import com.resolveit.repository.*;
+import com.resolveit.security.ComplaintAccess;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * ComplaintService - Core Business Logic for Complaint Management
@@ -25,10 +50,11 @@ import java.util.stream.Collectors;
  * 1. COMPLAINT LIFECYCLE:
  * - Creation: Users submit complaints with title, description, category,
  * priority
- * - Unique complaint numbers are auto-generated (e.g., COMP-20240118-001)
+ * - Unique complaint numbers are auto-generated (e.g., CMP-00001) from
+ * block-allocated sequence ranges (see ComplaintNumberAllocator)
  * - Anonymous submissions are supported
  * 
- * 2. STATUS WORKFLOW (strict hierarchy):
+ * 2. STATUS WORKFLOW (strict hierarchy, configurable in ComplaintWorkflow):
  * NEW → UNDER_REVIEW → RESOLVED → CLOSED
  * - Only forward transitions allowed (no going back)
  * - Each transition is logged in ComplaintUpdate for audit trail
@@ -51,6 +77,13 @@ import java.util.stream.Collectors;
 @Service
 public class ComplaintService {
 
+    private static final int MAX_SLICE_SIZE = 100;
+    private static final int STREAM_CHUNK_SIZE = 500;
+    private static final int DEFAULT_TIMELINE_LIMIT = 50;
+    private static final int MAX_TIMELINE_LIMIT = 200;
+    // Status changes rejected because another update changed the status first
+    static final String STATUS_CONFLICT_METRIC = "complaints.status.conflicts";
+
     @Autowired
     private ComplaintRepository complaintRepository;
 
@@ -61,7 +94,7 @@ public class ComplaintService {
     private ComplaintUpdateRepository complaintUpdateRepository;
 
     @Autowired
-    private AttachmentRepository attachmentRepository;
+    private CommentRepository commentRepository;
 
     @Autowired
     private NotificationRepository notificationRepository;
@@ -75,30 +108,216 @@ public class ComplaintService {
     @Autowired
     private AttachmentService attachmentService;
 
+    @Autowired
+    private ComplaintDtoAssembler complaintDtoAssembler;
+
+    @Autowired
+    private ComplaintNumberAllocator complaintNumberAllocator;
+
+    @Autowired
+    private ComplaintCache complaintCache;
+
+    @Autowired
+    private ComplaintViewService complaintViewService;
+
+    @Autowired
+    private ComplaintSearchService complaintSearchService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ComplaintWorkflow complaintWorkflow;
+
+    @Autowired
+    private ComplaintBulkService complaintBulkService;
+
+    @Autowired
+    private ComplaintAccess complaintAccess;
+
+    @Autowired
+    private ComplaintStatsService complaintStatsService;
+
+    @Autowired
+    private ComplaintRollupService complaintRollupService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Transactional(readOnly = true)
-    public Page<ComplaintResponse> getAllComplaints(Pageable pageable) {
-        return complaintRepository.findAll(pageable).map(this::convertToDto);
+    public Page<ComplaintResponse> getAllComplaints(Pageable pageable, boolean includeUpdates) {
+        return convertToDtoPage(complaintRepository.findAll(pageable), includeUpdates);
     }
 
     @Transactional(readOnly = true)
-    public List<ComplaintResponse> getAllComplaintsList() {
-        return complaintRepository.findAll()
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public ComplaintSliceResponse getComplaintsSlice(String cursor, int size) {
+        int pageSize = clampSliceSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<Complaint> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = complaintRepository.findSeekFirst(limit);
+        } else {
+            ComplaintCursor position = ComplaintCursor.decode(cursor);
+            rows = complaintRepository.findSeekAfter(position.getCreatedAt(), position.getId(), limit);
+        }
+        return toSlice(rows, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public ComplaintSliceResponse getComplaintsByStatusSlice(ComplaintStatus status, String cursor, int size) {
+        int pageSize = clampSliceSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<Complaint> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = complaintRepository.findSeekFirstByStatus(status, limit);
+        } else {
+            ComplaintCursor position = ComplaintCursor.decode(cursor);
+            rows = complaintRepository.findSeekAfterByStatus(status, position.getCreatedAt(), position.getId(),
+                    limit);
+        }
+        return toSlice(rows, pageSize);
+    }
+
+    private int clampSliceSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+    }
+
+    // One extra row is fetched to learn whether another page exists without counting
+    private ComplaintSliceResponse toSlice(List<Complaint> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<Complaint> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        ComplaintSliceResponse slice = new ComplaintSliceResponse();
+        slice.setContent(complaintDtoAssembler.toResponses(page));
+        slice.setSize(page.size());
+        slice.setHasNext(hasNext);
+        if (hasNext) {
+            Complaint last = page.get(page.size() - 1);
+            slice.setNextCursor(new ComplaintCursor(last.getCreatedAt(), last.getId()).encode());
+        }
+        return slice;
     }
 
     @Transactional(readOnly = true)
-    public ComplaintResponse getComplaintById(Long id) {
+    public List<ComplaintResponse> getAllComplaintsList(boolean includeUpdates) {
+        return complaintDtoAssembler.toResponses(complaintRepository.findAll(), includeUpdates);
+    }
+
+    /**
+     * Streams every complaint to the given output as NDJSON (one object per line)
+     * or as a single JSON array. Rows come from a forward-only cursor and are
+     * converted in chunks; the persistence context is cleared after each chunk
+     * so memory use does not grow with the table size.
+     */
+    @Transactional(readOnly = true)
+    public void streamAllComplaints(OutputStream out, boolean ndjson) throws IOException {
+        // Rows are flushed once per chunk rather than after every value
+        ObjectWriter writer = objectMapper.writerFor(ComplaintResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.setRootValueSeparator(null);
+        if (!ndjson) {
+            generator.writeStartArray();
+        }
+
+        List<Complaint> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+        try (Stream<Complaint> complaints = complaintRepository.streamAllByOrderById()) {
+            Iterator<Complaint> iterator = complaints.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == STREAM_CHUNK_SIZE || !iterator.hasNext()) {
+                    for (ComplaintResponse response : complaintDtoAssembler.toResponses(chunk)) {
+                        writer.writeValue(generator, response);
+                        if (ndjson) {
+                            generator.writeRaw('\n');
+                        }
+                    }
+                    generator.flush();
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            }
+        }
+
+        if (!ndjson) {
+            generator.writeEndArray();
+        }
+        generator.flush();
+    }
+
+    // ==================== Summary views and sparse fieldsets ====================
+
+    @Transactional(readOnly = true)
+    public List<ComplaintSummary> getAllComplaintSummaries() {
+        return complaintRepository.findAllSummaries();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ComplaintSummary> getAllComplaintSummaries(Pageable pageable) {
+        return complaintRepository.findAllSummaries(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ComplaintSummary> getComplaintSummariesByUserId(Long userId) {
+        return complaintRepository.findSummariesByCreatedById(userId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ComplaintSummary> getAssignedComplaintSummaries(Long userId) {
+        return complaintRepository.findSummariesByAssignedToId(userId);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ComplaintSummary> getComplaintSummariesByStatus(ComplaintStatus status, Pageable pageable) {
+        return complaintRepository.findSummariesByStatus(status, pageable);
+    }
+
+    /**
+     * Selects only the comma-separated fields requested by the client, e.g.
+     * fields=complaintNumber,title,status,priority
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getComplaintFields(String fields, Specification<Complaint> scope) {
+        return complaintRepository.findFields(parseFields(fields), scope, Pageable.unpaged()).getContent();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getComplaintFields(String fields, Specification<Complaint> scope,
+            Pageable pageable) {
+        return complaintRepository.findFields(parseFields(fields), scope, pageable);
+    }
+
+    private List<String> parseFields(String fields) {
+        List<String> parsed = new ArrayList<>();
+        for (String field : fields.split(",")) {
+            String trimmed = field.trim();
+            if (!trimmed.isEmpty() && !parsed.contains(trimmed)) {
+                parsed.add(trimmed);
+            }
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be requested");
+        }
+        return parsed;
+    }
+
+    @Transactional(readOnly = true)
+    // Only the default representation (without the update history) is cached. sync loads it inside
+    // the cache's per-key lock, so ComplaintCache's after-commit evict waits for a racing load and drops it
+    @Cacheable(cacheNames = CacheConfig.COMPLAINTS_CACHE, key = "#id", condition = "!#includeUpdates", sync = true)
+    public ComplaintResponse getComplaintById(Long id, boolean includeUpdates) {
         Complaint complaint = complaintRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException("Complaint not found with id: " + id));
-        return convertToDto(complaint);
+        return complaintDtoAssembler.toResponse(complaint, includeUpdates);
     }
 
     @Transactional
     public ComplaintResponse createComplaint(ComplaintRequest complaintRequest, User createdBy) {
         Complaint complaint = new Complaint();
-        complaint.setComplaintNumber(generateComplaintNumber());
+        complaint.setComplaintNumber(complaintNumberAllocator.nextComplaintNumber());
         complaint.setTitle(complaintRequest.getTitle());
         complaint.setDescription(complaintRequest.getDescription());
         complaint.setCategory(complaintRequest.getCategory());
@@ -107,32 +326,19 @@ public class ComplaintService {
         complaint.setStatus(ComplaintStatus.NEW);
         complaint.setCreatedBy(createdBy);
         complaint.setCreatedAt(LocalDateTime.now());
-        return convertToDto(complaintRepository.save(complaint));
-    }
-
-    private String generateComplaintNumber() {
-        Optional<Complaint> lastComplaint = complaintRepository.findTopByOrderByComplaintNumberDesc();
-
-        if (lastComplaint.isPresent()) {
-            String lastId = lastComplaint.get().getComplaintNumber();
-            if (lastId != null && lastId.startsWith("CMP-")) {
-                try {
-                    int sequence = Integer.parseInt(lastId.substring(4));
-                    return String.format("CMP-%05d", sequence + 1);
-                } catch (NumberFormatException e) {
-                    // Fallback if format is broken
-                    return String.format("CMP-%05d", lastComplaint.get().getId() + 1);
-                }
-            }
-        }
-
-        return "CMP-00001";
+        Complaint saved = complaintRepository.save(complaint);
+        complaintViewService.refresh(saved);
+        complaintSearchService.reindex(saved.getId());
+        complaintStatsService.created(saved);
+        complaintRollupService.created(saved);
+        return convertToDto(saved);
     }
 
     @Transactional
     public ComplaintResponse updateComplaint(Long id, ComplaintRequest complaintRequest) {
         Complaint complaint = complaintRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException("Complaint not found with id: " + id));
+        ComplaintStatsService.StatsKey statsBefore = ComplaintStatsService.StatsKey.of(complaint);
 
         if (complaintRequest.getTitle() != null) {
             complaint.setTitle(complaintRequest.getTitle());
@@ -148,211 +354,134 @@ public class ComplaintService {
         }
 
         complaint.setUpdatedAt(LocalDateTime.now());
-        return convertToDto(complaintRepository.save(complaint));
+        complaintCache.evict(id);
+        Complaint saved = complaintRepository.save(complaint);
+        complaintViewService.refresh(saved);
+        complaintSearchService.reindex(id);
+        complaintStatsService.changed(statsBefore, saved);
+        complaintRollupService.changed(statsBefore.status(), statsBefore.category(), saved);
+        return convertToDto(saved);
     }
 
     @Transactional
     public void deleteComplaint(Long id) {
-        if (!complaintRepository.existsById(id)) {
+        if (complaintRepository.lockExistingIds(List.of(id)).isEmpty()) {
             throw new NoSuchElementException("Complaint not found with id: " + id);
         }
-        complaintRepository.deleteById(id);
+        // Set-based delete of the children instead of cascading through loaded entities
+        complaintBulkService.deleteCascade(List.of(id));
     }
 
     @Transactional(readOnly = true)
-    public List<ComplaintResponse> getComplaintsByUser(User user) {
-        return complaintRepository.findByCreatedById(user.getId())
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public List<ComplaintResponse> getComplaintsByUser(User user, boolean includeUpdates) {
+        return complaintDtoAssembler.toResponses(complaintRepository.findByCreatedById(user.getId()),
+                includeUpdates);
     }
 
     @Transactional(readOnly = true)
-    public List<ComplaintResponse> getComplaintsByUserId(Long userId) {
+    public List<ComplaintResponse> getComplaintsByUserId(Long userId, boolean includeUpdates) {
         if (!userRepository.existsById(userId)) {
             throw new NoSuchElementException("User not found with id: " + userId);
         }
-        return complaintRepository.findByCreatedById(userId)
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return complaintDtoAssembler.toResponses(complaintRepository.findByCreatedById(userId), includeUpdates);
     }
 
     @Transactional(readOnly = true)
-    public Page<ComplaintResponse> getComplaintsByStatus(ComplaintStatus status, Pageable pageable) {
-        return complaintRepository.findByStatus(status, pageable)
-                .map(this::convertToDto);
+    public Page<ComplaintResponse> getComplaintsByStatus(ComplaintStatus status, Pageable pageable,
+            boolean includeUpdates) {
+        return convertToDtoPage(complaintRepository.findByStatus(status, pageable), includeUpdates);
     }
 
-    public boolean isOwner(Long complaintId, String username) {
-        return complaintRepository.findById(complaintId)
-                .map(complaint -> {
-                    Optional<User> createdBy = userRepository.findById(complaint.getCreatedBy().getId());
-                    return createdBy.isPresent() && createdBy.get().getUsername().equals(username);
-                })
-                .orElse(false);
+    public boolean isOwner(Long complaintId, User user) {
+        return complaintAccess.isOwner(complaintId, user);
     }
 
-    private ComplaintResponse convertToDto(Complaint complaint) {
-        ComplaintResponse response = new ComplaintResponse();
-        response.setId(complaint.getId());
-        response.setComplaintNumber(complaint.getComplaintNumber());
-        response.setTitle(complaint.getTitle());
-        response.setDescription(complaint.getDescription());
-        response.setStatus(complaint.getStatus());
-        response.setCategory(complaint.getCategory());
-        response.setPriority(complaint.getPriority());
-        response.setCreatedAt(complaint.getCreatedAt());
-        response.setUpdatedAt(complaint.getUpdatedAt());
-        response.setAnonymous(complaint.isAnonymous());
-
-        // Set created by user details - hide if anonymous
-        if (complaint.getCreatedBy() != null) {
-            if (complaint.isAnonymous()) {
-                response.setCreatedBy("Anonymous");
-            } else {
-                response.setCreatedBy(complaint.getCreatedBy().getName());
-            }
-        }
-
-        // Set assigned to user details if exists
-        if (complaint.getAssignedTo() != null) {
-            response.setAssignedTo(complaint.getAssignedTo().getUsername());
-        }
-
-        // Set attachments
-        List<com.resolveit.dto.AttachmentResponse> attachmentDtos = attachmentRepository
-                .findByComplaintId(complaint.getId())
-                .stream()
-                .map(att -> {
-                    com.resolveit.dto.AttachmentResponse attResponse = new com.resolveit.dto.AttachmentResponse();
-                    attResponse.setId(att.getId());
-                    attResponse.setFileName(att.getFileName());
-                    attResponse.setFileType(att.getFileType());
-                    attResponse.setDownloadUrl("/api/complaints/attachments/" + att.getId());
-                    return attResponse;
-                })
-                .collect(Collectors.toList());
-        response.setAttachments(attachmentDtos);
-
-        // Set last admin comment from most recent update
-        List<ComplaintUpdate> updates = complaintUpdateRepository
-                .findByComplaintIdOrderByUpdatedAtDesc(complaint.getId());
-        if (!updates.isEmpty()) {
-            ComplaintUpdate latestUpdate = updates.get(0);
-            if (latestUpdate.getComments() != null && !latestUpdate.getComments().isEmpty()) {
-                response.setLastAdminComment(latestUpdate.getComments());
-            }
-        }
-
-        // Set all updates with comments for history
-        List<com.resolveit.dto.ComplaintUpdateResponse> updateDtos = updates.stream()
-                .filter(u -> u.getComments() != null && !u.getComments().isEmpty())
-                .map(u -> {
-                    com.resolveit.dto.ComplaintUpdateResponse updateDto = new com.resolveit.dto.ComplaintUpdateResponse();
-                    updateDto.setId(u.getId());
-                    updateDto.setOldStatus(u.getOldStatus());
-                    updateDto.setNewStatus(u.getNewStatus());
-                    updateDto.setComments(u.getComments());
-                    updateDto.setUpdatedAt(u.getUpdatedAt());
-                    if (u.getUpdatedBy() != null) {
-                        updateDto.setUpdatedBy(u.getUpdatedBy().getUsername());
-                    }
-                    return updateDto;
-                })
-                .collect(Collectors.toList());
-        response.setUpdates(updateDtos);
+    private void sendAfterCommit(EmailService.StatusUpdateEmail email) {
+        AfterCommit.run(() -> emailService.sendStatusUpdateEmails(List.of(email)));
+    }
 
-        // Set escalation info
-        response.setEscalated(complaint.isEscalated());
-        response.setEscalatedAt(complaint.getEscalatedAt());
+    private ComplaintResponse convertToDto(Complaint complaint) {
+        return complaintDtoAssembler.toResponse(complaint);
+    }
 
-        return response;
+    private Page<ComplaintResponse> convertToDtoPage(Page<Complaint> complaints, boolean includeUpdates) {
+        return new PageImpl<>(complaintDtoAssembler.toResponses(complaints.getContent(), includeUpdates),
+                complaints.getPageable(), complaints.getTotalElements());
     }
 
+    /**
+     * Applies a status change as one conditional UPDATE guarded by the old
+     * status (compare-and-set). The transition is validated against the
+     * status the caller saw (expectedStatus, else the current one); if another
+     * update got there first, nothing is written and StatusConflictException
+     * is thrown. The audit row is only inserted once the UPDATE has succeeded.
+     * Allowed transitions, roles and side effects come from ComplaintWorkflow.
+     */
     @Transactional
     public ComplaintResponse updateComplaintStatus(Long id, StatusUpdateRequest statusUpdate, User updatedBy) {
-        Complaint complaint = complaintRepository.findById(id)
-                .orElseThrow(() -> new NoSuchElementException("Complaint not found with id: " + id));
-
-        ComplaintStatus oldStatus = complaint.getStatus();
         ComplaintStatus newStatus = statusUpdate.getStatus();
 
         if (newStatus == null) {
             throw new IllegalArgumentException("New status cannot be null");
         }
 
-        // Strict Status Hierarchy Validation
-        // NEW -> UNDER_REVIEW -> RESOLVED -> CLOSED
-        // Allow same status (for adding comments without changing status)
-        boolean isValid = false;
-
-        if (oldStatus == newStatus) {
-            isValid = true; // Allow staying in same status (Comment only)
-        } else {
-            switch (oldStatus) {
-                case NEW:
-                    if (newStatus == ComplaintStatus.UNDER_REVIEW)
-                        isValid = true;
-                    break;
-                case UNDER_REVIEW:
-                    if (newStatus == ComplaintStatus.RESOLVED)
-                        isValid = true;
-                    break;
-                case RESOLVED:
-                    if (newStatus == ComplaintStatus.CLOSED)
-                        isValid = true;
-                    break;
-                case CLOSED:
-                    throw new IllegalStateException("Complaint is already CLOSED and cannot be updated.");
-                default:
-                    break;
-            }
+        ComplaintStatus oldStatus = statusUpdate.getExpectedStatus();
+        if (oldStatus == null) {
+            oldStatus = complaintRepository.findStatusById(id)
+                    .orElseThrow(() -> new NoSuchElementException("Complaint not found with id: " + id));
         }
 
-        if (!isValid) {
-            throw new IllegalArgumentException(
-                    String.format(
-                            "Invalid status transition: Cannot move from %s to %s. Strict hierarchy is: NEW -> UNDER_REVIEW -> RESOLVED -> CLOSED.",
-                            oldStatus, newStatus));
+        ComplaintWorkflow.Transition transition = complaintWorkflow.check(oldStatus, newStatus, updatedBy);
+
+        // Update status only if nobody else moved it since it was read
+        LocalDateTime now = LocalDateTime.now();
+        if (complaintRepository.compareAndSetStatus(id, oldStatus, newStatus, now) == 0) {
+            ComplaintStatus currentStatus = complaintRepository.findStatusById(id)
+                    .orElseThrow(() -> new NoSuchElementException("Complaint not found with id: " + id));
+            meterRegistry.counter(STATUS_CONFLICT_METRIC).increment();
+            throw new StatusConflictException(id, oldStatus, currentStatus);
         }
 
-        // Update status
-        complaint.setStatus(newStatus);
-        complaint.setUpdatedAt(LocalDateTime.now());
+        Complaint saved = complaintRepository.findById(id)
+                .orElseThrow(() -> new NoSuchElementException("Complaint not found with id: " + id));
 
         // Handle assignment if provided
         String assignedToEmail = statusUpdate.getAssignedToEmail();
         if (assignedToEmail != null && !assignedToEmail.trim().isEmpty()) {
-            userRepository.findByEmail(assignedToEmail).ifPresent(complaint::setAssignedTo);
+            userRepository.findByEmail(assignedToEmail).ifPresent(saved::setAssignedTo);
         }
 
         // Create status update record
         if (updatedBy != null) {
             ComplaintUpdate update = new ComplaintUpdate();
-            update.setComplaint(complaint);
+            update.setComplaint(saved);
             update.setUpdatedBy(updatedBy);
             update.setOldStatus(oldStatus);
             update.setNewStatus(newStatus);
             update.setComments(statusUpdate.getComments());
-            update.setUpdatedAt(LocalDateTime.now());
+            update.setUpdatedAt(now);
             complaintUpdateRepository.save(update);
         }
 
-        Complaint saved = complaintRepository.save(complaint);
-
-        // Send email and in-app notification to user (if status changed)
-        if (oldStatus != newStatus && saved.getCreatedBy() != null && !saved.isAnonymous()) {
-            String userEmail = saved.getCreatedBy().getEmail();
-
-            // Send email
-            emailService.sendStatusUpdateEmail(
-                    userEmail,
+        complaintViewService.refresh(saved);
+        complaintSearchService.reindex(id);
+        complaintCache.evict(id);
+        complaintStatsService.changed(ComplaintStatsService.StatsKey.of(saved).withStatus(oldStatus), saved);
+        complaintRollupService.changed(oldStatus, saved.getCategory(), saved);
+
+        // Send email and in-app notification to user, as configured for the transition
+        boolean notifyOwner = saved.getCreatedBy() != null && !saved.isAnonymous();
+        if (notifyOwner && transition.has(ComplaintWorkflow.SideEffect.OWNER_EMAIL)) {
+            // Send email once the change is committed
+            EmailService.StatusUpdateEmail email = new EmailService.StatusUpdateEmail(
+                    saved.getCreatedBy().getEmail(),
                     saved.getComplaintNumber(),
                     oldStatus.name(),
                     newStatus.name(),
                     saved.getTitle());
-
+            sendAfterCommit(email);
+        }
+        if (notifyOwner && transition.has(ComplaintWorkflow.SideEffect.OWNER_NOTIFICATION)) {
             // Create in-app notification
             UserNotification userNotification = new UserNotification();
             userNotification.setUser(saved.getCreatedBy());
@@ -364,12 +493,12 @@ public class ComplaintService {
         }
 
         // Notify admin when an escalated complaint is resolved
-        if (saved.isEscalated() && newStatus == ComplaintStatus.RESOLVED) {
+        if (saved.isEscalated() && transition.has(ComplaintWorkflow.SideEffect.ESCALATED_ADMIN_NOTIFICATION)) {
             // Create admin notification for escalated resolution
             Notification adminNotification = new Notification();
             adminNotification.setType("ESCALATED_RESOLVED");
             adminNotification.setMessage("⚠️ Escalated complaint '" + saved.getTitle() + "' ("
-                    + saved.getComplaintNumber() + ") has been RESOLVED. Please review and close.");
+                    + saved.getComplaintNumber() + ") has been " + newStatus + ". Please review and close.");
             adminNotification.setComplaintId(saved.getId());
             notificationRepository.save(adminNotification);
         }
@@ -388,26 +517,23 @@ public class ComplaintService {
         comment.setComplaint(complaint);
         comment.setCreatedAt(LocalDateTime.now());
 
-        complaint.getComments().add(comment);
-        complaintRepository.save(complaint);
+        commentRepository.save(comment);
+        // Comments live in a child table; bump the version so ETags change too
+        complaintRepository.incrementVersion(complaintId);
+        complaintSearchService.reindex(complaintId);
+        complaintCache.evict(complaintId);
 
         return comment;
     }
 
     @Transactional(readOnly = true)
     public List<ComplaintResponse> getComplaintsByUser(Long userId) {
-        return complaintRepository.findByCreatedById(userId)
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return complaintDtoAssembler.toResponses(complaintRepository.findByCreatedById(userId));
     }
 
     @Transactional(readOnly = true)
-    public List<ComplaintResponse> getAssignedComplaints(Long userId) {
-        return complaintRepository.findByAssignedToId(userId)
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public List<ComplaintResponse> getAssignedComplaints(Long userId, boolean includeUpdates) {
+        return complaintDtoAssembler.toResponses(complaintRepository.findByAssignedToId(userId), includeUpdates);
     }
 
     @Transactional
@@ -420,8 +546,11 @@ public class ComplaintService {
 
         complaint.setAssignedTo(assignee);
         complaint.setUpdatedAt(LocalDateTime.now());
+        complaintCache.evict(complaintId);
 
-        return convertToDto(complaintRepository.save(complaint));
+        Complaint saved = complaintRepository.save(complaint);
+        complaintViewService.refresh(saved);
+        return convertToDto(saved);
     }
 
     @Transactional(readOnly = true)
@@ -430,28 +559,65 @@ public class ComplaintService {
     }
 
     @Transactional(readOnly = true)
-    public List<com.resolveit.dto.ComplaintUpdateResponse> getTimeline(Long complaintId) {
+    public List<ComplaintUpdateResponse> getTimeline(Long complaintId) {
         if (!complaintRepository.existsById(complaintId)) {
             throw new NoSuchElementException("Complaint not found with id: " + complaintId);
         }
 
         return complaintUpdateRepository.findByComplaintIdOrderByUpdatedAtDesc(complaintId)
                 .stream()
-                .map(update -> {
-                    com.resolveit.dto.ComplaintUpdateResponse response = new com.resolveit.dto.ComplaintUpdateResponse();
-                    response.setId(update.getId());
-                    response.setOldStatus(update.getOldStatus());
-                    response.setNewStatus(update.getNewStatus());
-                    response.setComments(update.getComments());
-                    response.setUpdatedAt(update.getUpdatedAt());
-                    if (update.getUpdatedBy() != null) {
-                        response.setUpdatedBy(update.getUpdatedBy().getUsername());
-                    }
-                    return response;
-                })
+                .map(this::toUpdateResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Incremental timeline. With since, returns up to limit entries newer than
+     * that update ID; without it, the latest limit entries. Entries are newest
+     * first; latestId is the cursor to pass as since on the next poll.
+     */
+    @Transactional(readOnly = true)
+    public ComplaintTimelineResponse getTimeline(Long complaintId, Long since, Integer limit) {
+        if (!complaintRepository.existsById(complaintId)) {
+            throw new NoSuchElementException("Complaint not found with id: " + complaintId);
+        }
+        int pageSize = limit != null ? Math.max(1, Math.min(limit, MAX_TIMELINE_LIMIT)) : DEFAULT_TIMELINE_LIMIT;
+        // One extra row tells whether more entries are left without counting
+        Pageable window = PageRequest.of(0, pageSize + 1);
+
+        List<ComplaintUpdate> rows;
+        if (since != null) {
+            rows = complaintUpdateRepository.findByComplaintIdAndIdGreaterThanOrderByIdAsc(complaintId, since, window);
+        } else {
+            rows = complaintUpdateRepository.findByComplaintIdOrderByIdDesc(complaintId, window);
+        }
+        boolean hasMore = rows.size() > pageSize;
+        List<ComplaintUpdate> page = new ArrayList<>(hasMore ? rows.subList(0, pageSize) : rows);
+        if (since != null) {
+            Collections.reverse(page);
+        }
+
+        ComplaintTimelineResponse response = new ComplaintTimelineResponse();
+        for (ComplaintUpdate update : page) {
+            response.getEntries().add(toUpdateResponse(update));
+        }
+        response.setLatestId(page.isEmpty() ? since : page.get(0).getId());
+        response.setHasMore(hasMore);
+        return response;
+    }
+
+    private ComplaintUpdateResponse toUpdateResponse(ComplaintUpdate update) {
+        ComplaintUpdateResponse response = new ComplaintUpdateResponse();
+        response.setId(update.getId());
+        response.setOldStatus(update.getOldStatus());
+        response.setNewStatus(update.getNewStatus());
+        response.setComments(update.getComments());
+        response.setUpdatedAt(update.getUpdatedAt());
+        if (update.getUpdatedBy() != null) {
+            response.setUpdatedBy(update.getUpdatedBy().getUsername());
+        }
+        return response;
+    }
+
     @Transactional
     public ComplaintResponse escalateComplaint(Long id, User escalatedBy) {
         Complaint complaint = complaintRepository.findById(id)
@@ -460,6 +626,7 @@ public class ComplaintService {
         if (complaint.isEscalated()) {
             throw new IllegalStateException("Complaint is already escalated.");
         }
+        ComplaintStatsService.StatsKey statsBefore = ComplaintStatsService.StatsKey.of(complaint);
 
         complaint.setEscalated(true);
         complaint.setEscalatedAt(LocalDateTime.now());
@@ -473,40 +640,45 @@ public class ComplaintService {
         update.setComments("Manual Escalation by Admin");
         update.setUpdatedAt(LocalDateTime.now());
         complaintUpdateRepository.save(update);
+        complaintCache.evict(id);
 
-        return convertToDto(complaintRepository.save(complaint));
+        Complaint saved = complaintRepository.save(complaint);
+        complaintViewService.refresh(saved);
+        complaintStatsService.changed(statsBefore, saved);
+        return convertToDto(saved);
     }
 
+    /**
+     * Resets all complaints with set-based statements only - nothing is loaded
+     * into the persistence context. Attachment files are removed in the
+     * background once the reset has committed; the returned job reports progress.
+     */
     @Transactional
-    public void resetComplaints() {
-        // 1. Delete all attachments (files and DB records)
-        attachmentService.deleteAllAttachments();
+    public FileCleanupProgress resetComplaints() {
+        // 1. Delete all attachments (DB records now, files after commit)
+        FileCleanupProgress fileCleanup = attachmentService.deleteAllAttachments();
 
-        // 2. Delete all timelines (history)
-        complaintUpdateRepository.deleteAll();
-
-        // 2. Delete all notifications
-        notificationRepository.deleteAll();
-
-        // 2. Fetch all complaints sorted by creation date
-        List<Complaint> complaints = complaintRepository.findAll(org.springframework.data.domain.Sort.by("createdAt"));
+        // 2. Delete all timelines (history) and notifications
+        complaintUpdateRepository.deleteAllInBatch();
+        notificationRepository.deleteAllInBatch();
 
         // 3. Temporarily rename all complaint numbers to avoid unique constraint
-        // violations
-        // Format: T-{id} (Short enough to fit in 20 char limit)
-        for (Complaint c : complaints) {
-            c.setComplaintNumber("T-" + c.getId());
-        }
-        complaintRepository.saveAllAndFlush(complaints);
-
-        // 4. Re-serialize complaint numbers sequentially, reset status to NEW, and
-        // clear assignments
-        long counter = 1;
-        for (Complaint c : complaints) {
-            c.setComplaintNumber(String.format("CMP-%05d", counter++));
-            c.setStatus(ComplaintStatus.NEW); // Reset status
-            c.setAssignedTo(null); // Clear staff assignments
-        }
-        complaintRepository.saveAll(complaints);
+        // violations. Format: T-{id} (Short enough to fit in 20 char limit)
+        long firstNumber = complaintNumberAllocator.lockForRenumber();
+        complaintRepository.parkComplaintNumbers();
+
+        // 4. Re-serialize complaint numbers by creation date, reset status to NEW and
+        // clear assignments in one statement. Numbering continues above every number
+        // handed out so far, so blocks other nodes still hold cannot collide with it.
+        int count = complaintRepository.renumberForReset(firstNumber);
+
+        // 5. Continue numbering after the re-serialized range
+        complaintNumberAllocator.reset(firstNumber + count);
+        complaintViewService.rebuild();
+        complaintSearchService.rebuildAfterCommit();
+        complaintCache.clear();
+        complaintStatsService.reloadAfterCommit();
+        complaintRollupService.rebuild();
+        return fileCleanup;
     }
 }
@@ -0,0 +1,240 @@
+package com.resolveit.service;
+
+import com.resolveit.model.Complaint;
+import com.resolveit.model.ComplaintStatus;
+import com.resolveit.repository.ComplaintBatchRepository.ComplaintRow;
+import com.resolveit.repository.ComplaintRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ComplaintStatsService - Live complaint counters for the admin dashboard
+ *
+ * Keeps one LongAdder per (status, category, priority, escalated) group in
+ * memory, so GET /api/reports/stats folds a handful of counters instead of
+ * querying the database.
+ *
+ * - Loaded from the grouped count query at startup (ApplicationReadyEvent)
+ * - Updated by the complaint write paths; deltas are applied only after the
+ *   transaction commits, so rolled back changes never show up
+ * - Reconciled against the database periodically
+ *   (complaint.stats.reconcile-interval-ms, default 5 minutes), which also
+ *   corrects changes that raced a reconcile
+ *
+ */
+@Service
+public class ComplaintStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ComplaintStatsService.class);
+
+    /**
+     * One counter group. Category and priority are free-form strings, as on the entity.
+     */
+    public record StatsKey(ComplaintStatus status, String category, String priority, boolean escalated) {
+
+        public static StatsKey of(Complaint complaint) {
+            return new StatsKey(complaint.getStatus(), complaint.getCategory(), complaint.getPriority(),
+                    complaint.isEscalated());
+        }
+
+        public StatsKey withStatus(ComplaintStatus newStatus) {
+            return new StatsKey(newStatus, category, priority, escalated);
+        }
+    }
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    // Null until loaded; replaced as a whole on reconcile
+    private volatile Map<StatsKey, LongAdder> counters;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rehydrate() {
+        counters = load();
+        logger.info("Complaint stats loaded: {} groups", counters.size());
+    }
+
+    @Scheduled(fixedDelayString = "${complaint.stats.reconcile-interval-ms:300000}",
+            initialDelayString = "${complaint.stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        Map<StatsKey, LongAdder> current = counters;
+        Map<StatsKey, LongAdder> fresh = load();
+        if (current != null && !sameCounts(current, fresh)) {
+            logger.info("Complaint stats drifted from the database; reconciled");
+        }
+        counters = fresh;
+    }
+
+    /**
+     * Current totals, in the shape of GET /api/reports/stats.
+     */
+    public Map<String, Object> getStats() {
+        Map<StatsKey, LongAdder> current = counters;
+        if (current == null) {
+            current = load();
+        }
+        Map<StatsKey, Long> counts = new HashMap<>();
+        current.forEach((key, adder) -> counts.put(key, adder.sum()));
+        return fold(counts);
+    }
+
+    // ==================== Lifecycle hooks (call inside the write transaction) ====================
+
+    public void created(Complaint complaint) {
+        applyAfterCommit(new HashMap<>(Map.of(StatsKey.of(complaint), 1L)));
+    }
+
+    /**
+     * Complaints inserted by the JDBC import (never escalated).
+     */
+    public void imported(Collection<ComplaintRow> rows) {
+        Map<StatsKey, Long> deltas = new HashMap<>();
+        for (ComplaintRow row : rows) {
+            deltas.merge(new StatsKey(row.status(), row.category(), row.priority(), false), 1L, Long::sum);
+        }
+        applyAfterCommit(deltas);
+    }
+
+    /**
+     * A single complaint moved from one group to another (status, category,
+     * priority or escalation changed).
+     */
+    public void changed(StatsKey before, Complaint after) {
+        StatsKey key = StatsKey.of(after);
+        if (key.equals(before)) {
+            return;
+        }
+        Map<StatsKey, Long> deltas = new HashMap<>();
+        deltas.put(before, -1L);
+        deltas.put(key, 1L);
+        applyAfterCommit(deltas);
+    }
+
+    /**
+     * Complaints about to be moved to newStatus by a bulk UPDATE. Must be
+     * called before the UPDATE, while the rows still hold their old status.
+     */
+    public void statusChanging(Collection<Long> ids, ComplaintStatus newStatus) {
+        Map<StatsKey, Long> deltas = new HashMap<>();
+        for (ComplaintRepository.StatsGroup group : complaintRepository.countByStatsGroupForIds(ids)) {
+            StatsKey key = keyOf(group);
+            deltas.merge(key, -group.getCount(), Long::sum);
+            deltas.merge(key.withStatus(newStatus), group.getCount(), Long::sum);
+        }
+        applyAfterCommit(deltas);
+    }
+
+    /**
+     * Complaints about to be deleted by a bulk DELETE. Must be called before the DELETE.
+     */
+    public void deleting(Collection<Long> ids) {
+        Map<StatsKey, Long> deltas = new HashMap<>();
+        for (ComplaintRepository.StatsGroup group : complaintRepository.countByStatsGroupForIds(ids)) {
+            deltas.merge(keyOf(group), -group.getCount(), Long::sum);
+        }
+        applyAfterCommit(deltas);
+    }
+
+    /**
+     * For changes too broad to track (e.g. resetting every complaint): reload
+     * all counters once the transaction has committed.
+     */
+    public void reloadAfterCommit() {
+        AfterCommit.run(() -> counters = load());
+    }
+
+    // ==================== Internals ====================
+
+    private void applyAfterCommit(Map<StatsKey, Long> deltas) {
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> apply(deltas));
+    }
+
+    private void apply(Map<StatsKey, Long> deltas) {
+        Map<StatsKey, LongAdder> current = counters;
+        if (current == null) {
+            // Not loaded yet; the initial load will include this change
+            return;
+        }
+        deltas.forEach((key, delta) -> current.computeIfAbsent(key, k -> new LongAdder()).add(delta));
+    }
+
+    private Map<StatsKey, LongAdder> load() {
+        Map<StatsKey, LongAdder> loaded = new ConcurrentHashMap<>();
+        for (ComplaintRepository.StatsGroup group : complaintRepository.countByStatsGroup()) {
+            LongAdder adder = new LongAdder();
+            adder.add(group.getCount());
+            loaded.put(keyOf(group), adder);
+        }
+        return loaded;
+    }
+
+    private static boolean sameCounts(Map<StatsKey, LongAdder> current, Map<StatsKey, LongAdder> fresh) {
+        for (Map.Entry<StatsKey, LongAdder> entry : current.entrySet()) {
+            LongAdder other = fresh.get(entry.getKey());
+            if (entry.getValue().sum() != (other != null ? other.sum() : 0)) {
+                return false;
+            }
+        }
+        for (StatsKey key : fresh.keySet()) {
+            if (!current.containsKey(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static StatsKey keyOf(ComplaintRepository.StatsGroup group) {
+        return new StatsKey(group.getStatus(), group.getCategory(), group.getPriority(), group.isEscalated());
+    }
+
+    private static Map<String, Object> fold(Map<StatsKey, Long> counts) {
+        long total = 0;
+        long escalated = 0;
+        Map<String, Long> byStatus = new TreeMap<>();
+        Map<String, Long> byCategory = new TreeMap<>();
+        Map<String, Long> byPriority = new TreeMap<>();
+
+        for (Map.Entry<StatsKey, Long> entry : counts.entrySet()) {
+            StatsKey key = entry.getKey();
+            long count = entry.getValue();
+            if (count == 0) {
+                continue;
+            }
+            total += count;
+            if (key.escalated()) {
+                escalated += count;
+            }
+            byStatus.merge(key.status().name(), count, Long::sum);
+            byCategory.merge(key.category(), count, Long::sum);
+            byPriority.merge(key.priority(), count, Long::sum);
+        }
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalComplaints", total);
+        stats.put("resolvedCount", byStatus.getOrDefault(ComplaintStatus.RESOLVED.name(), 0L));
+        stats.put("closedCount", byStatus.getOrDefault(ComplaintStatus.CLOSED.name(), 0L));
+        stats.put("pendingCount", byStatus.getOrDefault(ComplaintStatus.NEW.name(), 0L)
+                + byStatus.getOrDefault(ComplaintStatus.UNDER_REVIEW.name(), 0L));
+        stats.put("escalatedCount", escalated);
+        stats.put("byStatus", byStatus);
+        stats.put("byCategory", byCategory);
+        stats.put("byPriority", byPriority);
+        return stats;
+    }
+}
@@ -0,0 +1,335 @@
+package com.resolveit.service;
+
+import com.resolveit.dto.ComplaintFilter;
+import com.resolveit.dto.ComplaintFilterResponse;
+import com.resolveit.model.Complaint;
+import com.resolveit.model.ComplaintStatus;
+import com.resolveit.model.ComplaintUpdate;
+import com.resolveit.model.ComplaintView;
+import com.resolveit.repository.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * ComplaintViewService - Maintains the complaint_view read model
+ *
+ * Write paths call refresh(...) / remove(...) inside their own transaction,
+ * so the read model commits or rolls back together with the source rows.
+ * rebuild() regenerates the whole table from complaints, users, attachments
+ * and complaint_updates in chunked transactions; it also runs at startup
+ * when the read model is empty but complaints exist.
+ */
+@Service
+public class ComplaintViewService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ComplaintViewService.class);
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_FILTER_PAGE_SIZE = 100;
+
+    @Autowired
+    private ComplaintViewRepository complaintViewRepository;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private ComplaintUpdateRepository complaintUpdateRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public ComplaintViewService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // ==================== Reads ====================
+
+    @Transactional(readOnly = true)
+    public List<ComplaintView> findAll() {
+        return complaintViewRepository.findAllByOrderByCreatedAtDesc();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ComplaintView> findAll(Pageable pageable) {
+        return complaintViewRepository.findAll(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ComplaintView> findByOwner(Long ownerId) {
+        return complaintViewRepository.findByOwnerIdOrderByCreatedAtDesc(ownerId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ComplaintView> findByAssignee(Long assigneeId) {
+        return complaintViewRepository.findByAssigneeIdOrderByCreatedAtDesc(assigneeId);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ComplaintView> findByStatus(ComplaintStatus status, Pageable pageable) {
+        return complaintViewRepository.findByStatus(status, pageable);
+    }
+
+    /**
+     * One page of complaints matching the filter, plus facet counts. Each
+     * facet is one GROUP BY query with every filter except its own applied.
+     */
+    @Transactional(readOnly = true)
+    public ComplaintFilterResponse filter(ComplaintFilter filter, Pageable pageable) {
+        Pageable page = pageable;
+        if (page.getPageSize() > MAX_FILTER_PAGE_SIZE) {
+            page = PageRequest.of(page.getPageNumber(), MAX_FILTER_PAGE_SIZE, page.getSort());
+        }
+        if (page.getSort().isUnsorted()) {
+            page = PageRequest.of(page.getPageNumber(), page.getPageSize(),
+                    Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")));
+        }
+
+        Page<ComplaintView> rows = complaintViewRepository.findAll(
+                ComplaintViewSpecifications.matching(filter, null), page);
+        ComplaintFilterResponse response = new ComplaintFilterResponse();
+        response.setContent(rows.getContent());
+        response.setPage(rows.getNumber());
+        response.setSize(rows.getSize());
+        response.setTotalElements(rows.getTotalElements());
+        response.setTotalPages(rows.getTotalPages());
+
+        for (String facet : ComplaintViewSpecifications.FACETS) {
+            response.getFacets().put(facet, complaintViewRepository.countByFacet(facet,
+                    ComplaintViewSpecifications.matching(filter, facet)));
+        }
+        return response;
+    }
+
+    // ==================== Upkeep ====================
+
+    /**
+     * Re-derives the read model row for one complaint. Must run inside the
+     * transaction that changed it.
+     */
+    public void refresh(Complaint complaint) {
+        ComplaintView view = complaintViewRepository.findById(complaint.getId()).orElse(null);
+        boolean isNew = view == null;
+        if (isNew) {
+            view = new ComplaintView();
+            view.setId(complaint.getId());
+        }
+        copyComplaint(complaint, view);
+
+        if (complaint.getCreatedBy() != null) {
+            view.setOwnerId(complaint.getCreatedBy().getId());
+            view.setOwnerDisplayName(complaint.isAnonymous() ? "Anonymous" : complaint.getCreatedBy().getName());
+        }
+        if (complaint.getAssignedTo() != null) {
+            view.setAssigneeId(complaint.getAssignedTo().getId());
+            view.setAssigneeUsername(complaint.getAssignedTo().getUsername());
+        } else {
+            view.setAssigneeId(null);
+            view.setAssigneeUsername(null);
+        }
+
+        view.setAttachmentCount((int) attachmentRepository.countByComplaintId(complaint.getId()));
+        applyLatestUpdate(view, complaintUpdateRepository
+                .findTopByComplaintIdOrderByUpdatedAtDesc(complaint.getId()).orElse(null));
+
+        if (isNew) {
+            entityManager.persist(view);
+        }
+    }
+
+    public void refresh(Long complaintId) {
+        complaintRepository.findById(complaintId)
+                .ifPresentOrElse(this::refresh, () -> remove(complaintId));
+    }
+
+    public void remove(Long complaintId) {
+        removeAll(List.of(complaintId));
+    }
+
+    public void removeAll(Collection<Long> complaintIds) {
+        if (!complaintIds.isEmpty()) {
+            complaintViewRepository.deleteAllByIdInBatch(complaintIds);
+        }
+    }
+
+    /**
+     * Batch variant of refresh for write paths that touch many complaints.
+     * Uses a fixed number of IN (...) queries per chunk.
+     */
+    public void refreshAll(Collection<Long> complaintIds) {
+        List<Long> ids = new ArrayList<>(complaintIds);
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            refreshChunk(complaintRepository.findAllById(chunk));
+        }
+    }
+
+    public void refreshComplaints(List<Complaint> complaints) {
+        for (int from = 0; from < complaints.size(); from += CHUNK_SIZE) {
+            refreshChunk(complaints.subList(from, Math.min(from + CHUNK_SIZE, complaints.size())));
+        }
+    }
+
+    /**
+     * Regenerates the whole read model from the source tables. Each chunk of
+     * complaints is processed in its own transaction.
+     *
+     * @return number of rows written
+     */
+    public long rebuild() {
+        logger.info("Rebuilding complaint_view read model...");
+        transactionTemplate.executeWithoutResult(status -> complaintViewRepository.deleteAllInBatch());
+
+        long rebuilt = 0;
+        long afterId = 0;
+        while (true) {
+            final long from = afterId;
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Long> chunk = complaintRepository.findIdsAfter(from, PageRequest.of(0, CHUNK_SIZE));
+                if (!chunk.isEmpty()) {
+                    refreshChunk(complaintRepository.findAllById(chunk));
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+                return chunk;
+            });
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            rebuilt += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+        logger.info("complaint_view rebuilt with {} rows", rebuilt);
+        return rebuilt;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (complaintViewRepository.count() == 0 && complaintRepository.count() > 0) {
+            rebuild();
+        }
+    }
+
+    private void refreshChunk(List<Complaint> complaints) {
+        if (complaints.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(complaints.size());
+        Set<Long> userIds = new HashSet<>();
+        for (Complaint complaint : complaints) {
+            ids.add(complaint.getId());
+            if (complaint.getCreatedBy() != null) {
+                userIds.add(complaint.getCreatedBy().getId());
+            }
+            if (complaint.getAssignedTo() != null) {
+                userIds.add(complaint.getAssignedTo().getId());
+            }
+        }
+
+        Map<Long, UserRepository.UserDisplay> usersById = new HashMap<>();
+        if (!userIds.isEmpty()) {
+            for (UserRepository.UserDisplay user : userRepository.findDisplayByIdIn(userIds)) {
+                usersById.put(user.getId(), user);
+            }
+        }
+
+        Map<Long, Long> attachmentCounts = new HashMap<>();
+        for (Object[] row : attachmentRepository.countByComplaintIdIn(ids)) {
+            attachmentCounts.put((Long) row[0], (Long) row[1]);
+        }
+
+        // Ties on updatedAt come highest id first, so the first update seen per complaint wins
+        Map<Long, ComplaintUpdate> latestUpdates = new HashMap<>();
+        for (ComplaintUpdate update : complaintUpdateRepository.findLatestByComplaintIdIn(ids)) {
+            latestUpdates.putIfAbsent(update.getComplaint().getId(), update);
+        }
+
+        Map<Long, ComplaintView> existing = new HashMap<>();
+        for (ComplaintView view : complaintViewRepository.findAllById(ids)) {
+            existing.put(view.getId(), view);
+        }
+
+        for (Complaint complaint : complaints) {
+            ComplaintView view = existing.get(complaint.getId());
+            boolean isNew = view == null;
+            if (isNew) {
+                view = new ComplaintView();
+                view.setId(complaint.getId());
+            }
+            copyComplaint(complaint, view);
+
+            view.setOwnerId(null);
+            view.setOwnerDisplayName(null);
+            if (complaint.getCreatedBy() != null) {
+                UserRepository.UserDisplay owner = usersById.get(complaint.getCreatedBy().getId());
+                view.setOwnerId(complaint.getCreatedBy().getId());
+                if (complaint.isAnonymous()) {
+                    view.setOwnerDisplayName("Anonymous");
+                } else if (owner != null) {
+                    view.setOwnerDisplayName(owner.getName());
+                }
+            }
+            view.setAssigneeId(null);
+            view.setAssigneeUsername(null);
+            if (complaint.getAssignedTo() != null) {
+                UserRepository.UserDisplay assignee = usersById.get(complaint.getAssignedTo().getId());
+                view.setAssigneeId(complaint.getAssignedTo().getId());
+                view.setAssigneeUsername(assignee != null ? assignee.getUsername() : null);
+            }
+
+            view.setAttachmentCount(attachmentCounts.getOrDefault(complaint.getId(), 0L).intValue());
+            applyLatestUpdate(view, latestUpdates.get(complaint.getId()));
+
+            if (isNew) {
+                entityManager.persist(view);
+            }
+        }
+    }
+
+    private void copyComplaint(Complaint complaint, ComplaintView view) {
+        view.setComplaintNumber(complaint.getComplaintNumber());
+        view.setTitle(complaint.getTitle());
+        view.setStatus(complaint.getStatus());
+        view.setCategory(complaint.getCategory());
+        view.setPriority(complaint.getPriority());
+        view.setAnonymous(complaint.isAnonymous());
+        view.setEscalated(complaint.isEscalated());
+        view.setEscalatedAt(complaint.getEscalatedAt());
+        view.setCreatedAt(complaint.getCreatedAt());
+        view.setUpdatedAt(complaint.getUpdatedAt());
+    }
+
+    private void applyLatestUpdate(ComplaintView view, ComplaintUpdate latest) {
+        if (latest == null) {
+            view.setLatestUpdateAt(null);
+            view.setLastAdminComment(null);
+            return;
+        }
+        view.setLatestUpdateAt(latest.getUpdatedAt());
+        String comments = latest.getComments();
+        view.setLastAdminComment(comments != null && !comments.isEmpty() ? comments : null);
+    }
+}
@@ -0,0 +1,221 @@
+package com.resolveit.service;
+
+import com.resolveit.model.ComplaintStatus;
+import com.resolveit.model.Role;
+import com.resolveit.model.User;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ComplaintWorkflow - Table-driven status transition rules
+ *
+ * The allowed transitions, the roles that may perform them and their side
+ * effects are read from configuration and compiled at startup into an
+ * EnumMap keyed by (from, to). Every status change - single, bulk and staff
+ * change requests - is validated against this table, so a lookup is two
+ * EnumMap reads with no allocation.
+ *
+ * complaint.workflow.transitions is a comma-separated list of
+ * FROM>TO:ROLE+ROLE:EFFECT+EFFECT entries (roles without the ROLE_ prefix,
+ * effects optional). complaint.workflow.final-states lists states that
+ * accept no further updates at all, not even comments.
+ *
+ * Staying in the same status (adding a comment) is allowed from every
+ * non-final state for any role and has no side effects.
+ */
+@Component
+public class ComplaintWorkflow {
+
+    private static final Logger logger = LoggerFactory.getLogger(ComplaintWorkflow.class);
+
+    static final String DEFAULT_TRANSITIONS = "NEW>UNDER_REVIEW:ADMIN+STAFF:OWNER_EMAIL+OWNER_NOTIFICATION,"
+            + "UNDER_REVIEW>RESOLVED:ADMIN+STAFF:OWNER_EMAIL+OWNER_NOTIFICATION+ESCALATED_ADMIN_NOTIFICATION,"
+            + "RESOLVED>CLOSED:ADMIN+STAFF:OWNER_EMAIL+OWNER_NOTIFICATION";
+
+    /**
+     * What happens once a transition has been applied.
+     */
+    public enum SideEffect {
+        // Email the complaint owner (skipped for anonymous complaints)
+        OWNER_EMAIL,
+        // In-app notification for the complaint owner (skipped for anonymous complaints)
+        OWNER_NOTIFICATION,
+        // Admin notification when the complaint is escalated
+        ESCALATED_ADMIN_NOTIFICATION
+    }
+
+    /**
+     * One compiled (from, to) entry of the transition table.
+     */
+    public static final class Transition {
+        private final ComplaintStatus from;
+        private final ComplaintStatus to;
+        private final Set<Role> roles;
+        private final Set<SideEffect> sideEffects;
+
+        Transition(ComplaintStatus from, ComplaintStatus to, Set<Role> roles, Set<SideEffect> sideEffects) {
+            this.from = from;
+            this.to = to;
+            this.roles = Collections.unmodifiableSet(roles);
+            this.sideEffects = Collections.unmodifiableSet(sideEffects);
+        }
+
+        public ComplaintStatus getFrom() {
+            return from;
+        }
+
+        public ComplaintStatus getTo() {
+            return to;
+        }
+
+        public Set<Role> getRoles() {
+            return roles;
+        }
+
+        public boolean has(SideEffect sideEffect) {
+            return sideEffects.contains(sideEffect);
+        }
+
+        public boolean isStatusChange() {
+            return from != to;
+        }
+
+        boolean allows(User actor) {
+            for (Role role : actor.getRoles()) {
+                if (roles.contains(role)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    @Value("${complaint.workflow.transitions:" + DEFAULT_TRANSITIONS + "}")
+    private String transitionsSpec;
+
+    @Value("${complaint.workflow.final-states:CLOSED}")
+    private String finalStatesSpec;
+
+    private final Map<ComplaintStatus, Map<ComplaintStatus, Transition>> table = new EnumMap<>(ComplaintStatus.class);
+    private final Set<ComplaintStatus> finalStates = EnumSet.noneOf(ComplaintStatus.class);
+    // Allowed targets per state, precomputed for error messages
+    private final Map<ComplaintStatus, String> allowedTargets = new EnumMap<>(ComplaintStatus.class);
+
+    @PostConstruct
+    public void compile() {
+        for (String state : finalStatesSpec.split(",")) {
+            if (!state.isBlank()) {
+                finalStates.add(parseStatus(state));
+            }
+        }
+        for (ComplaintStatus status : ComplaintStatus.values()) {
+            Map<ComplaintStatus, Transition> row = new EnumMap<>(ComplaintStatus.class);
+            if (!finalStates.contains(status)) {
+                row.put(status, new Transition(status, status, EnumSet.allOf(Role.class),
+                        EnumSet.noneOf(SideEffect.class)));
+            }
+            table.put(status, row);
+        }
+
+        int count = 0;
+        for (String entry : transitionsSpec.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            Transition transition;
+            try {
+                transition = parseTransition(entry.trim());
+            } catch (IllegalArgumentException e) {
+                // Unknown status, role or side effect name
+                throw new IllegalStateException("Invalid workflow transition: " + entry.trim(), e);
+            }
+            if (finalStates.contains(transition.getFrom())) {
+                throw new IllegalStateException("Workflow transition leaves final state: " + entry.trim());
+            }
+            table.get(transition.getFrom()).put(transition.getTo(), transition);
+            count++;
+        }
+
+        for (ComplaintStatus status : ComplaintStatus.values()) {
+            StringBuilder targets = new StringBuilder();
+            for (ComplaintStatus target : table.get(status).keySet()) {
+                if (target != status) {
+                    targets.append(targets.length() > 0 ? ", " : "").append(target);
+                }
+            }
+            allowedTargets.put(status, targets.length() > 0 ? targets.toString() : "none");
+        }
+        logger.info("Compiled complaint workflow: {} transitions, final states {}", count, finalStates);
+    }
+
+    /**
+     * Validates a transition regardless of the actor's roles.
+     */
+    public Transition check(ComplaintStatus from, ComplaintStatus to) {
+        return check(from, to, null);
+    }
+
+    /**
+     * Returns the transition from -> to, or throws IllegalStateException for a
+     * final state, IllegalArgumentException for a transition that is not in the
+     * table and AccessDeniedException when the actor has none of its roles.
+     * A null actor (system changes) skips the role check.
+     */
+    public Transition check(ComplaintStatus from, ComplaintStatus to, User actor) {
+        if (finalStates.contains(from)) {
+            throw new IllegalStateException("Complaint is already " + from + " and cannot be updated.");
+        }
+        Transition transition = table.get(from).get(to);
+        if (transition == null) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid status transition: Cannot move from %s to %s. Allowed next status: %s.",
+                    from, to, allowedTargets.get(from)));
+        }
+        if (actor != null && !transition.allows(actor)) {
+            throw new AccessDeniedException(String.format(
+                    "Not allowed to move a complaint from %s to %s.", from, to));
+        }
+        return transition;
+    }
+
+    private Transition parseTransition(String entry) {
+        String[] parts = entry.split(":");
+        String[] states = parts[0].split(">");
+        if (states.length != 2 || parts.length > 3) {
+            throw new IllegalStateException("Invalid workflow transition: " + entry);
+        }
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        if (parts.length > 1) {
+            for (String role : parts[1].split("\\+")) {
+                String name = role.trim().toUpperCase();
+                roles.add(Role.valueOf(name.startsWith("ROLE_") ? name : "ROLE_" + name));
+            }
+        }
+        if (roles.isEmpty()) {
+            throw new IllegalStateException("Workflow transition needs at least one role: " + entry);
+        }
+        Set<SideEffect> sideEffects = EnumSet.noneOf(SideEffect.class);
+        if (parts.length > 2) {
+            for (String effect : parts[2].split("\\+")) {
+                if (!effect.isBlank()) {
+                    sideEffects.add(SideEffect.valueOf(effect.trim().toUpperCase()));
+                }
+            }
+        }
+        return new Transition(parseStatus(states[0]), parseStatus(states[1]), roles, sideEffects);
+    }
+
+    private static ComplaintStatus parseStatus(String status) {
+        return ComplaintStatus.valueOf(status.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,74 @@
+package com.resolveit.service;
+
+import com.resolveit.model.Complaint;
+import com.resolveit.repository.ComplaintRepository;
+import com.resolveit.repository.NotificationRepository;
+import com.resolveit.repository.NotificationWatermark;
+import com.resolveit.repository.UserNotificationRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ETagService - Strong ETags computed without building the response
+ *
+ * Each ETag is a hash of the request (path and query, so different views and
+ * pages get different tags) and a cheap version value read from the database:
+ * - single complaint: its @Version counter
+ * - complaint lists: count / id sum / version sum / latest update of the rows in scope
+ * - notification lists: count / max id / read count (the per-user watermark)
+ *
+ * Controllers compare the tag with If-None-Match first and answer 304 Not
+ * Modified before any DTO is assembled.
+ */
+@Service
+public class ETagService {
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserNotificationRepository userNotificationRepository;
+
+    /**
+     * Returns null if the complaint does not exist, so the normal 404 path runs.
+     */
+    @Transactional(readOnly = true)
+    public String forComplaint(HttpServletRequest request, Long complaintId) {
+        return complaintRepository.findVersionById(complaintId)
+                .map(version -> tag(request, complaintId + ":" + version))
+                .orElse(null);
+    }
+
+    @Transactional(readOnly = true)
+    public String forComplaints(HttpServletRequest request, String scope, Specification<Complaint> spec) {
+        return tag(request, scope + ":" + complaintRepository.findVersionFingerprint(spec));
+    }
+
+    @Transactional(readOnly = true)
+    public String forUserNotifications(HttpServletRequest request, Long userId) {
+        return tag(request, userId + ":" + watermark(userNotificationRepository.findWatermarkByUserId(userId)));
+    }
+
+    @Transactional(readOnly = true)
+    public String forAdminNotifications(HttpServletRequest request) {
+        return tag(request, watermark(notificationRepository.findWatermark()));
+    }
+
+    private String watermark(NotificationWatermark watermark) {
+        return watermark.getTotal() + ":" + watermark.getMaxId() + ":" + watermark.getReadCount();
+    }
+
+    private String tag(HttpServletRequest request, String version) {
+        String key = request.getRequestURI() + "?" + request.getQueryString() + "#" + version;
+        return "\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
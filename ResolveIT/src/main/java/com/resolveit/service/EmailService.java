@@ -9,6 +9,8 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 public class EmailService {
 
@@ -26,16 +28,31 @@ public class EmailService {
     @Async
     public void sendStatusUpdateEmail(String toEmail, String complaintNumber, String oldStatus, String newStatus,
             String title) {
+        deliverStatusUpdate(new StatusUpdateEmail(toEmail, complaintNumber, oldStatus, newStatus, title));
+    }
+
+    /**
+     * Send status update emails for a bulk transition from a single async task,
+     * instead of queueing one executor task per complaint
+     */
+    @Async
+    public void sendStatusUpdateEmails(List<StatusUpdateEmail> emails) {
+        for (StatusUpdateEmail email : emails) {
+            deliverStatusUpdate(email);
+        }
+    }
+
+    private void deliverStatusUpdate(StatusUpdateEmail email) {
         if (mailSender == null) {
-            logger.warn("Email service not configured. Skipping email to: {}", toEmail);
+            logger.warn("Email service not configured. Skipping email to: {}", email.toEmail());
             return;
         }
 
         try {
             SimpleMailMessage message = new SimpleMailMessage();
             message.setFrom(fromEmail);
-            message.setTo(toEmail);
-            message.setSubject("ResolveIT: Status Update for " + complaintNumber);
+            message.setTo(email.toEmail());
+            message.setSubject("ResolveIT: Status Update for " + email.complaintNumber());
             message.setText(String.format(
                     "Hello,\n\n" +
                             "Your complaint '%s' (%s) has been updated.\n\n" +
@@ -44,15 +61,19 @@ public class EmailService {
                             "Please log in to ResolveIT to view more details.\n\n" +
                             "Best regards,\n" +
                             "ResolveIT Team",
-                    title, complaintNumber, oldStatus, newStatus));
+                    email.title(), email.complaintNumber(), email.oldStatus(), email.newStatus()));
 
             mailSender.send(message);
-            logger.info("Status update email sent to: {}", toEmail);
+            logger.info("Status update email sent to: {}", email.toEmail());
         } catch (Exception e) {
-            logger.error("Failed to send status update email to {}: {}", toEmail, e.getMessage());
+            logger.error("Failed to send status update email to {}: {}", email.toEmail(), e.getMessage());
         }
     }
 
+    public record StatusUpdateEmail(String toEmail, String complaintNumber, String oldStatus, String newStatus,
+            String title) {
+    }
+
     /**
      * Send email notification for escalation
      */
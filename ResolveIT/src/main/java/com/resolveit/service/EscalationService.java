@@ -3,6 +3,8 @@ package com.resolveit.service;
 import com.resolveit.model.Complaint;
 import com.resolveit.model.ComplaintStatus;
 import com.resolveit.repository.ComplaintRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,6 +24,18 @@ public class EscalationService {
     @Autowired
     private ComplaintRepository complaintRepository;
 
+    @Autowired
+    private ComplaintCache complaintCache;
+
+    @Autowired
+    private ComplaintViewService complaintViewService;
+
+    @Autowired
+    private ComplaintStatsService complaintStatsService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     // Escalation thresholds in days based on priority
     private int getEscalationDays(String priority) {
         if (priority == null)
@@ -71,12 +85,11 @@ public class EscalationService {
             // Escalate if exceeded threshold
             if (daysSinceCreation >= escalationThreshold) {
                 try {
-                    complaint.setEscalated(true);
-                    complaint.setEscalatedAt(now);
-                    complaintRepository.save(complaint);
-                    escalatedCount++;
-                    logger.info("Escalated complaint {} (Priority: {}, Days: {})",
-                            complaint.getComplaintNumber(), complaint.getPriority(), daysSinceCreation);
+                    if (escalate(complaint, now)) {
+                        escalatedCount++;
+                        logger.info("Escalated complaint {} (Priority: {}, Days: {})",
+                                complaint.getComplaintNumber(), complaint.getPriority(), daysSinceCreation);
+                    }
                 } catch (Exception e) {
                     logger.warn("Could not escalate complaint {} - likely concurrent update: {}",
                             complaint.getComplaintNumber(), e.getMessage());
@@ -103,11 +116,28 @@ public class EscalationService {
         int escalationThreshold = getEscalationDays(complaint.getPriority());
 
         if (daysSinceCreation >= escalationThreshold) {
-            complaint.setEscalated(true);
-            complaint.setEscalatedAt(LocalDateTime.now());
-            complaintRepository.save(complaint);
-            return true;
+            return escalate(complaint, LocalDateTime.now());
         }
         return false;
     }
+
+    /**
+     * Escalates with one guarded UPDATE instead of saving the entity, so a
+     * complaint edited concurrently neither fails this run at commit nor
+     * rolls back the other escalations. Returns false when it was already
+     * escalated in the meantime.
+     */
+    private boolean escalate(Complaint complaint, LocalDateTime now) {
+        ComplaintStatsService.StatsKey statsBefore = ComplaintStatsService.StatsKey.of(complaint);
+        if (complaintRepository.escalateById(complaint.getId(), now) == 0) {
+            return false;
+        }
+        // The loaded instance is stale now; never flush it, read the row again
+        entityManager.detach(complaint);
+        Complaint escalated = complaintRepository.findById(complaint.getId()).orElseThrow();
+        complaintViewService.refresh(escalated);
+        complaintCache.evict(escalated.getId());
+        complaintStatsService.changed(statsBefore, escalated);
+        return true;
+    }
 }
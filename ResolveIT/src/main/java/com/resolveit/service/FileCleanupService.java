@@ -0,0 +1,93 @@
+package com.resolveit.service;
+
+import com.resolveit.dto.FileCleanupProgress;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * FileCleanupService - Removes uploaded files in the background
+ *
+ * Bulk deletes remove attachment rows with one statement and hand the stored
+ * file names over here. The files are only touched once the transaction has
+ * committed (a rollback cancels the job and leaves them in place), one at a
+ * time on a single worker thread, with progress available by job ID.
+ */
+@Service
+public class FileCleanupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileCleanupService.class);
+
+    // Finished jobs are kept for status polling until this many jobs exist
+    private static final int MAX_FINISHED_JOBS = 50;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "file-cleanup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, FileCleanupProgress> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Queues deletion of the given stored file names once the current
+     * transaction commits (immediately when there is none).
+     */
+    public FileCleanupProgress deleteAfterCommit(List<String> fileNames) {
+        FileCleanupProgress progress = new FileCleanupProgress(UUID.randomUUID().toString(), fileNames.size());
+        pruneFinishedJobs();
+        jobs.put(progress.getJobId(), progress);
+
+        AfterCommit.run(() -> worker.submit(() -> run(fileNames, progress)),
+                () -> progress.finish(FileCleanupProgress.State.CANCELLED));
+        return progress;
+    }
+
+    public Optional<FileCleanupProgress> getProgress(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    private void run(List<String> fileNames, FileCleanupProgress progress) {
+        progress.start();
+        for (String fileName : fileNames) {
+            if (Thread.currentThread().isInterrupted()) {
+                progress.finish(FileCleanupProgress.State.CANCELLED);
+                return;
+            }
+            progress.fileDone(fileStorageService.deleteFile(fileName));
+        }
+        progress.finish(FileCleanupProgress.State.COMPLETED);
+        logger.info("File cleanup {} finished: {} deleted, {} failed",
+                progress.getJobId(), progress.getDeleted(), progress.getFailed());
+    }
+
+    private void pruneFinishedJobs() {
+        if (jobs.size() < MAX_FINISHED_JOBS) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(job -> job.getState() == FileCleanupProgress.State.COMPLETED
+                        || job.getState() == FileCleanupProgress.State.CANCELLED)
+                .min(Comparator.comparing(FileCleanupProgress::getCreatedAt))
+                .ifPresent(job -> jobs.remove(job.getJobId()));
+    }
+}
@@ -58,12 +58,15 @@ public class FileStorageService {
         return uniqueFilename;
     }
 
-    public void deleteFile(String filename) {
+    // Returns false only when the file exists but could not be removed
+    public boolean deleteFile(String filename) {
         try {
             Path filePath = Paths.get(uploadDir).toAbsolutePath().normalize().resolve(filename);
             Files.deleteIfExists(filePath);
+            return true;
         } catch (IOException e) {
             System.err.println("Could not delete file: " + filename);
+            return false;
         }
     }
 
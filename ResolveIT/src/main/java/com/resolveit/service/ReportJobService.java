@@ -0,0 +1,232 @@
+package com.resolveit.service;
+
+import com.resolveit.dto.ReportJob;
+import com.resolveit.dto.ReportJobRequest;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ReportJobService - Background report exports with cached artifacts
+ *
+ * POST /api/reports/jobs queues a CSV or PDF export instead of generating it
+ * on a request thread:
+ * - a fixed pool of report.jobs.workers threads writes the export to
+ *   report.jobs.dir; at most report.jobs.queue-capacity jobs wait, further
+ *   submissions are refused until the queue drains
+ * - an identical request (same format and filter) that is still queued or
+ *   running, or completed within report.jobs.cache-ttl-minutes, returns the
+ *   existing job instead of generating the report again
+ * - artifacts are evicted once older than report.jobs.max-age-minutes, and
+ *   oldest first while their total size exceeds report.jobs.disk-budget-mb
+ * Jobs only live in memory; leftover artifacts are removed at startup.
+ */
+@Service
+public class ReportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportJobService.class);
+
+    @Value("${report.jobs.dir:report-jobs}")
+    private String jobsDir;
+
+    @Value("${report.jobs.workers:2}")
+    private int workers;
+
+    @Value("${report.jobs.queue-capacity:20}")
+    private int queueCapacity;
+
+    @Value("${report.jobs.cache-ttl-minutes:10}")
+    private long cacheTtlMinutes;
+
+    @Value("${report.jobs.max-age-minutes:60}")
+    private long maxAgeMinutes;
+
+    @Value("${report.jobs.disk-budget-mb:1024}")
+    private long diskBudgetMb;
+
+    @Autowired
+    private ReportService reportService;
+
+    private Path directory;
+    private ThreadPoolExecutor executor;
+
+    private final Map<String, ReportJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, ReportJob> jobsByKey = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void open() throws IOException {
+        directory = Paths.get(jobsDir).toAbsolutePath().normalize();
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(directory)) {
+            for (Path file : leftovers) {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "report-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queues the report, or returns the pending or recently completed job for
+     * an identical request.
+     *
+     * @throws IllegalArgumentException for an unknown format
+     * @throws IllegalStateException    when the queue is full
+     */
+    public synchronized ReportJob submit(ReportJobRequest request) {
+        String format = request.getFormat() == null ? "" : request.getFormat().trim().toLowerCase();
+        if (!format.equals("csv") && !format.equals("pdf")) {
+            throw new IllegalArgumentException("Invalid format: " + request.getFormat() + " (expected csv or pdf)");
+        }
+
+        String key = request.cacheKey();
+        ReportJob existing = jobsByKey.get(key);
+        if (existing != null && isReusable(existing)) {
+            return existing;
+        }
+
+        ReportJob job;
+        if (format.equals("pdf")) {
+            job = new ReportJob(UUID.randomUUID().toString(), "complaints_report.pdf", "application/pdf", key);
+        } else if (request.isGzip()) {
+            job = new ReportJob(UUID.randomUUID().toString(), "complaints_report.csv.gz", "application/gzip", key);
+        } else {
+            job = new ReportJob(UUID.randomUUID().toString(), "complaints_report.csv", "text/csv; charset=UTF-8", key);
+        }
+
+        try {
+            executor.execute(() -> run(job, request, format.equals("pdf")));
+        } catch (RejectedExecutionException e) {
+            throw new IllegalStateException("Too many report jobs are queued; try again later");
+        }
+        jobs.put(job.getJobId(), job);
+        jobsByKey.put(key, job);
+        return job;
+    }
+
+    public Optional<ReportJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * Evicts finished jobs older than the maximum age, then completed
+     * artifacts oldest first until they fit the disk budget.
+     */
+    @Scheduled(fixedDelayString = "${report.jobs.cleanup-interval-ms:60000}")
+    public synchronized void evict() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(maxAgeMinutes);
+        List<ReportJob> completed = new ArrayList<>();
+        for (ReportJob job : jobs.values()) {
+            if (!job.isFinished()) {
+                continue;
+            }
+            if (job.getFinishedAt().isBefore(cutoff)) {
+                remove(job);
+            } else if (job.getState() == ReportJob.State.COMPLETED) {
+                completed.add(job);
+            }
+        }
+
+        long budget = diskBudgetMb * 1024 * 1024;
+        long total = completed.stream().mapToLong(ReportJob::getSizeBytes).sum();
+        completed.sort(Comparator.comparing(ReportJob::getFinishedAt));
+        for (ReportJob job : completed) {
+            if (total <= budget) {
+                break;
+            }
+            total -= job.getSizeBytes();
+            remove(job);
+        }
+    }
+
+    private boolean isReusable(ReportJob job) {
+        switch (job.getState()) {
+            case QUEUED:
+            case RUNNING:
+                return true;
+            case COMPLETED:
+                return job.getFinishedAt().isAfter(LocalDateTime.now().minusMinutes(cacheTtlMinutes))
+                        && Files.exists(job.getArtifact());
+            default:
+                return false;
+        }
+    }
+
+    private void run(ReportJob job, ReportJobRequest request, boolean pdf) {
+        job.start();
+        Path partial = directory.resolve(job.getJobId() + ".part");
+        Path artifact = directory.resolve(job.getJobId() + (pdf ? ".pdf" : request.isGzip() ? ".csv.gz" : ".csv"));
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(partial))) {
+                if (pdf) {
+                    reportService.writePdf(out, request.getFilter());
+                } else {
+                    reportService.writeCsv(out, request.isGzip(), request.getFilter());
+                }
+            }
+            Files.move(partial, artifact, StandardCopyOption.ATOMIC_MOVE);
+            job.complete(artifact, Files.size(artifact));
+            logger.info("Report job {} finished: {} bytes", job.getJobId(), job.getSizeBytes());
+        } catch (Exception e) {
+            logger.error("Report job {} failed: {}", job.getJobId(), e.getMessage());
+            deleteQuietly(partial);
+            job.fail("Report generation failed: " + e.getMessage());
+        }
+        // A new artifact may push the directory over its budget
+        evict();
+    }
+
+    private void remove(ReportJob job) {
+        jobs.remove(job.getJobId());
+        jobsByKey.remove(job.getCacheKey(), job);
+        if (job.getArtifact() != null) {
+            deleteQuietly(job.getArtifact());
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete report artifact {}", file);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.resolveit.service;
+
+import com.resolveit.dto.ReportFilter;
+import com.resolveit.model.ComplaintStatus;
+import com.resolveit.repository.ComplaintRepository;
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Cell;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.properties.TextAlignment;
+import com.itextpdf.layout.properties.UnitValue;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * ReportService - Aggregates for the admin reports
+ *
+ * Totals come from the live counters in ComplaintStatsService, which are
+ * loaded and reconciled with one GROUP BY over (status, category, priority,
+ * escalated) and kept current by the write paths. Trends are read from the
+ * complaint_daily_rollup table (ComplaintRollupService), so their cost depends
+ * on the range and not on the number of complaints.
+ *
+ * Exports stream from a forward-only cursor over flat report rows (user
+ * emails joined in the same query), so memory use does not grow with the
+ * table size. The PDF uses an iText large table that is flushed to the
+ * response every few rows, and font programs are parsed once per JVM.
+ */
+@Service
+public class ReportService {
+
+    private static final String CSV_HEADER =
+            "Complaint Number,Title,Category,Priority,Status,Created By,Assigned To,Created At,Escalated";
+
+    // Characters buffered before each write to the response
+    private static final int CSV_BUFFER_SIZE = 64 * 1024;
+
+    private static final DateTimeFormatter EXPORT_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private static final DateTimeFormatter PDF_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    // Rows added to the PDF table between flushes; flushed rows are laid out, written and released
+    private static final int PDF_FLUSH_ROWS = 100;
+
+    // Parsed once; each document still needs its own PdfFont built from these
+    private static final FontProgram REGULAR_FONT = loadFont(StandardFonts.HELVETICA);
+    private static final FontProgram BOLD_FONT = loadFont(StandardFonts.HELVETICA_BOLD);
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private ComplaintStatsService complaintStatsService;
+
+    @Autowired
+    private ComplaintRollupService complaintRollupService;
+
+    public Map<String, Object> getStats() {
+        return complaintStatsService.getStats();
+    }
+
+    public List<Map<String, Object>> getTrends(LocalDate from, LocalDate to, ComplaintRollupService.Bucket bucket,
+            ComplaintStatus status, String category) {
+        return complaintRollupService.trends(from, to, bucket, status, category);
+    }
+
+    public int rebuildTrends() {
+        return complaintRollupService.rebuild();
+    }
+
+    /**
+     * Writes the complaints matching filter (all when null) as RFC 4180 CSV
+     * (UTF-8, CRLF line breaks, every field quoted). With gzip the output is a
+     * .csv.gz stream.
+     */
+    @Transactional(readOnly = true)
+    public void writeCsv(OutputStream out, boolean gzip, ReportFilter filter) throws IOException {
+        GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, CSV_BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(compressed != null ? compressed : out, StandardCharsets.UTF_8),
+                CSV_BUFFER_SIZE);
+
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        try (Stream<ComplaintRepository.ReportRow> rows = streamReportRows(filter)) {
+            Iterator<ComplaintRepository.ReportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ComplaintRepository.ReportRow row = iterator.next();
+                writeCsvField(writer, row.getComplaintNumber());
+                writer.write(',');
+                writeCsvField(writer, row.getTitle());
+                writer.write(',');
+                writeCsvField(writer, row.getCategory());
+                writer.write(',');
+                writeCsvField(writer, row.getPriority());
+                writer.write(',');
+                writeCsvField(writer, row.getStatus().name());
+                writer.write(',');
+                writeCsvField(writer, row.getCreatedByEmail() != null ? row.getCreatedByEmail() : "N/A");
+                writer.write(',');
+                writeCsvField(writer, row.getAssignedToEmail() != null ? row.getAssignedToEmail() : "Unassigned");
+                writer.write(',');
+                writeCsvField(writer, row.getCreatedAt().format(EXPORT_DATE_FORMAT));
+                writer.write(',');
+                writeCsvField(writer, row.isEscalated() ? "Yes" : "No");
+                writer.write("\r\n");
+            }
+        }
+
+        writer.flush();
+        if (compressed != null) {
+            compressed.finish();
+        }
+    }
+
+    // Quoted field; embedded quotes are doubled, commas and line breaks need nothing else inside quotes
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        writer.write('"');
+        if (value != null) {
+            if (value.indexOf('"') >= 0) {
+                writer.write(value.replace("\"", "\"\""));
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write('"');
+    }
+
+    /**
+     * Writes the complaints report PDF for filter (all complaints when null)
+     * straight to out. The summary line always covers all complaints. The table is added in
+     * large-table mode and flushed every PDF_FLUSH_ROWS rows, so completed
+     * pages leave memory as the cursor advances.
+     */
+    @Transactional(readOnly = true)
+    public void writePdf(OutputStream out, ReportFilter filter) throws IOException {
+        PdfWriter writer = new PdfWriter(out);
+        // The servlet container owns the response stream
+        writer.setCloseStream(false);
+        PdfDocument pdf = new PdfDocument(writer);
+        Document document = new Document(pdf);
+        PdfFont regular = PdfFontFactory.createFont(REGULAR_FONT, PdfEncodings.WINANSI);
+        PdfFont bold = PdfFontFactory.createFont(BOLD_FONT, PdfEncodings.WINANSI);
+        document.setFont(regular);
+
+        // Title
+        document.add(new Paragraph("ResolveIT - Complaints Report")
+                .setFont(bold)
+                .setFontSize(20)
+                .setTextAlignment(TextAlignment.CENTER));
+
+        // Date
+        document.add(new Paragraph(
+                "Generated: " + LocalDateTime.now().format(EXPORT_DATE_FORMAT))
+                .setFontSize(10)
+                .setTextAlignment(TextAlignment.CENTER));
+
+        document.add(new Paragraph("\n"));
+
+        // Summary stats
+        Map<String, Object> stats = getStats();
+        document.add(new Paragraph("Summary: Total: " + stats.get("totalComplaints")
+                + " | Resolved: " + stats.get("resolvedCount")
+                + " | Pending: " + stats.get("pendingCount")
+                + " | Escalated: " + stats.get("escalatedCount")));
+        document.add(new Paragraph("\n"));
+
+        // Table
+        Table table = new Table(UnitValue.createPercentArray(new float[] { 15, 25, 15, 10, 15, 20 }), true)
+                .setWidth(UnitValue.createPercentValue(100));
+
+        // Header (repeated on every page)
+        for (String header : new String[] { "ID", "Title", "Category", "Priority", "Status", "Created" }) {
+            table.addHeaderCell(new Cell().add(new Paragraph(header).setFont(bold)));
+        }
+        document.add(table);
+
+        int pending = 0;
+        try (Stream<ComplaintRepository.ReportRow> rows = streamReportRows(filter)) {
+            Iterator<ComplaintRepository.ReportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ComplaintRepository.ReportRow row = iterator.next();
+                String rowTitle = row.getTitle();
+                table.addCell(new Cell().add(new Paragraph(row.getComplaintNumber())));
+                table.addCell(new Cell().add(new Paragraph(
+                        rowTitle.length() > 30 ? rowTitle.substring(0, 30) + "..." : rowTitle)));
+                table.addCell(new Cell().add(new Paragraph(row.getCategory())));
+                table.addCell(new Cell().add(new Paragraph(row.getPriority())));
+                table.addCell(new Cell().add(new Paragraph(row.getStatus().name())));
+                table.addCell(new Cell().add(new Paragraph(row.getCreatedAt().format(PDF_DATE_FORMAT))));
+                if (++pending == PDF_FLUSH_ROWS) {
+                    table.flush();
+                    pending = 0;
+                }
+            }
+        }
+
+        table.complete();
+        document.close();
+    }
+
+    private Stream<ComplaintRepository.ReportRow> streamReportRows(ReportFilter filter) {
+        if (filter == null) {
+            filter = new ReportFilter();
+        }
+        return complaintRepository.streamReportRows(filter.getStatus(), filter.getCategory(), filter.getPriority(),
+                filter.getEscalated(),
+                filter.getCreatedFrom() != null ? filter.getCreatedFrom().atStartOfDay() : null,
+                filter.getCreatedTo() != null ? filter.getCreatedTo().plusDays(1).atStartOfDay() : null);
+    }
+
+    private static FontProgram loadFont(String name) {
+        try {
+            return FontProgramFactory.createFont(name);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.resolveit.service;
+
+import com.resolveit.model.ComplaintStatus;
+
+/**
+ * Thrown when a status change loses a race: the complaint was no longer in
+ * the status the transition was validated against. Mapped to 409 Conflict.
+ */
+public class StatusConflictException extends RuntimeException {
+
+    private final Long complaintId;
+    private final ComplaintStatus expectedStatus;
+    private final ComplaintStatus currentStatus;
+
+    public StatusConflictException(Long complaintId, ComplaintStatus expectedStatus, ComplaintStatus currentStatus) {
+        super(String.format("Complaint %d was changed concurrently: expected status %s but it is now %s",
+                complaintId, expectedStatus, currentStatus));
+        this.complaintId = complaintId;
+        this.expectedStatus = expectedStatus;
+        this.currentStatus = currentStatus;
+    }
+
+    public Long getComplaintId() {
+        return complaintId;
+    }
+
+    public ComplaintStatus getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    public ComplaintStatus getCurrentStatus() {
+        return currentStatus;
+    }
+}
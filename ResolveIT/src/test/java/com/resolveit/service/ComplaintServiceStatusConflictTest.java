@@ -0,0 +1,115 @@
+package com.resolveit.service;
+
+import com.resolveit.controller.ComplaintController;
+import com.resolveit.dto.StatusUpdateRequest;
+import com.resolveit.model.ComplaintStatus;
+import com.resolveit.model.Role;
+import com.resolveit.model.User;
+import com.resolveit.repository.ComplaintRepository;
+import com.resolveit.repository.ComplaintUpdateRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Lost-race path of ComplaintService.updateComplaintStatus: the guarded
+ * UPDATE matches no row because another change moved the status first.
+ */
+@ExtendWith(MockitoExtension.class)
+class ComplaintServiceStatusConflictTest {
+
+    private static final Long COMPLAINT_ID = 42L;
+
+    @Mock
+    private ComplaintRepository complaintRepository;
+
+    @Mock
+    private ComplaintUpdateRepository complaintUpdateRepository;
+
+    @Mock
+    private ComplaintStatsService complaintStatsService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private ComplaintWorkflow complaintWorkflow = new ComplaintWorkflow();
+
+    @InjectMocks
+    private ComplaintService complaintService;
+
+    private User staff;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(complaintWorkflow, "transitionsSpec", ComplaintWorkflow.DEFAULT_TRANSITIONS);
+        ReflectionTestUtils.setField(complaintWorkflow, "finalStatesSpec", "CLOSED");
+        complaintWorkflow.compile();
+
+        staff = new User();
+        staff.addRole(Role.ROLE_STAFF);
+
+        // The client saw NEW, but another request already moved the complaint to UNDER_REVIEW
+        when(complaintRepository.compareAndSetStatus(eq(COMPLAINT_ID), eq(ComplaintStatus.NEW),
+                eq(ComplaintStatus.UNDER_REVIEW), any(LocalDateTime.class))).thenReturn(0);
+        when(complaintRepository.findStatusById(COMPLAINT_ID)).thenReturn(Optional.of(ComplaintStatus.UNDER_REVIEW));
+    }
+
+    private static StatusUpdateRequest moveToReview() {
+        StatusUpdateRequest request = new StatusUpdateRequest();
+        request.setStatus("UNDER_REVIEW");
+        request.setExpectedStatus("NEW");
+        request.setComments("Looking into it");
+        return request;
+    }
+
+    @Test
+    void lostRaceThrowsConflictWithoutWritingAnything() {
+        StatusConflictException conflict = assertThrows(StatusConflictException.class,
+                () -> complaintService.updateComplaintStatus(COMPLAINT_ID, moveToReview(), staff));
+
+        assertEquals(COMPLAINT_ID, conflict.getComplaintId());
+        assertEquals(ComplaintStatus.NEW, conflict.getExpectedStatus());
+        assertEquals(ComplaintStatus.UNDER_REVIEW, conflict.getCurrentStatus());
+        assertEquals(1.0, meterRegistry.counter(ComplaintService.STATUS_CONFLICT_METRIC).count());
+
+        verify(complaintUpdateRepository, never()).save(any());
+        verify(complaintRepository, never()).findById(anyLong());
+        verify(complaintStatsService, never()).changed(any(), any());
+    }
+
+    @Test
+    void controllerAnswersConflictWithCurrentStatus() {
+        ComplaintController controller = new ComplaintController();
+        ReflectionTestUtils.setField(controller, "complaintService", complaintService);
+
+        ResponseEntity<?> response = controller.updateComplaintStatus(COMPLAINT_ID, moveToReview(), staff);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals(ComplaintStatus.UNDER_REVIEW, ((Map<?, ?>) response.getBody()).get("currentStatus"));
+        assertEquals(1.0, meterRegistry.counter(ComplaintService.STATUS_CONFLICT_METRIC).count());
+        verify(complaintUpdateRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,127 @@
+package com.resolveit.service;
+
+import com.resolveit.model.ComplaintStatus;
+import com.resolveit.model.Role;
+import com.resolveit.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ComplaintWorkflowTest {
+
+    private static ComplaintWorkflow workflow(String transitions, String finalStates) {
+        ComplaintWorkflow workflow = new ComplaintWorkflow();
+        ReflectionTestUtils.setField(workflow, "transitionsSpec", transitions);
+        ReflectionTestUtils.setField(workflow, "finalStatesSpec", finalStates);
+        workflow.compile();
+        return workflow;
+    }
+
+    private static ComplaintWorkflow defaultWorkflow() {
+        return workflow(ComplaintWorkflow.DEFAULT_TRANSITIONS, "CLOSED");
+    }
+
+    private static User userWith(Role role) {
+        User user = new User();
+        user.addRole(role);
+        return user;
+    }
+
+    @Test
+    void defaultSpecAllowsTheForwardPath() {
+        ComplaintWorkflow workflow = defaultWorkflow();
+
+        ComplaintWorkflow.Transition review = workflow.check(ComplaintStatus.NEW, ComplaintStatus.UNDER_REVIEW);
+        assertTrue(review.isStatusChange());
+        assertTrue(review.has(ComplaintWorkflow.SideEffect.OWNER_EMAIL));
+        assertTrue(review.has(ComplaintWorkflow.SideEffect.OWNER_NOTIFICATION));
+        assertFalse(review.has(ComplaintWorkflow.SideEffect.ESCALATED_ADMIN_NOTIFICATION));
+
+        ComplaintWorkflow.Transition resolve = workflow.check(ComplaintStatus.UNDER_REVIEW, ComplaintStatus.RESOLVED);
+        assertTrue(resolve.has(ComplaintWorkflow.SideEffect.ESCALATED_ADMIN_NOTIFICATION));
+
+        ComplaintWorkflow.Transition close = workflow.check(ComplaintStatus.RESOLVED, ComplaintStatus.CLOSED);
+        assertEquals(ComplaintStatus.CLOSED, close.getTo());
+    }
+
+    @Test
+    void sameStatusIsAllowedForAnyRoleWithoutSideEffects() {
+        ComplaintWorkflow workflow = defaultWorkflow();
+
+        for (ComplaintStatus status : new ComplaintStatus[] {
+                ComplaintStatus.NEW, ComplaintStatus.UNDER_REVIEW, ComplaintStatus.RESOLVED }) {
+            ComplaintWorkflow.Transition comment = workflow.check(status, status, userWith(Role.ROLE_USER));
+            assertFalse(comment.isStatusChange());
+            for (ComplaintWorkflow.SideEffect effect : ComplaintWorkflow.SideEffect.values()) {
+                assertFalse(comment.has(effect));
+            }
+        }
+    }
+
+    @Test
+    void closedComplaintCannotBeUpdated() {
+        ComplaintWorkflow workflow = defaultWorkflow();
+
+        assertThrows(IllegalStateException.class,
+                () -> workflow.check(ComplaintStatus.CLOSED, ComplaintStatus.CLOSED));
+        assertThrows(IllegalStateException.class,
+                () -> workflow.check(ComplaintStatus.CLOSED, ComplaintStatus.NEW));
+    }
+
+    @Test
+    void skippedAndBackwardMovesAreRejected() {
+        ComplaintWorkflow workflow = defaultWorkflow();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> workflow.check(ComplaintStatus.NEW, ComplaintStatus.RESOLVED));
+        assertThrows(IllegalArgumentException.class,
+                () -> workflow.check(ComplaintStatus.NEW, ComplaintStatus.CLOSED));
+        assertThrows(IllegalArgumentException.class,
+                () -> workflow.check(ComplaintStatus.RESOLVED, ComplaintStatus.UNDER_REVIEW));
+        assertThrows(IllegalArgumentException.class,
+                () -> workflow.check(ComplaintStatus.UNDER_REVIEW, ComplaintStatus.NEW));
+    }
+
+    @Test
+    void roleMissingFromEntryIsDenied() {
+        ComplaintWorkflow workflow = workflow("NEW>UNDER_REVIEW:ADMIN,UNDER_REVIEW>RESOLVED:ADMIN+STAFF", "CLOSED");
+
+        assertThrows(AccessDeniedException.class,
+                () -> workflow.check(ComplaintStatus.NEW, ComplaintStatus.UNDER_REVIEW, userWith(Role.ROLE_STAFF)));
+        assertThrows(AccessDeniedException.class,
+                () -> workflow.check(ComplaintStatus.UNDER_REVIEW, ComplaintStatus.RESOLVED,
+                        userWith(Role.ROLE_USER)));
+        assertDoesNotThrow(
+                () -> workflow.check(ComplaintStatus.NEW, ComplaintStatus.UNDER_REVIEW, userWith(Role.ROLE_ADMIN)));
+        // System changes (no actor) skip the role check
+        assertDoesNotThrow(() -> workflow.check(ComplaintStatus.NEW, ComplaintStatus.UNDER_REVIEW));
+    }
+
+    @Test
+    void malformedEntriesFailAtStartup() {
+        String[] malformed = {
+                "NEW:ADMIN",
+                "NEW>UNDER_REVIEW>RESOLVED:ADMIN",
+                "NEW>UNDER_REVIEW",
+                "NEW>UNDER_REVIEW:ADMIN:OWNER_EMAIL:EXTRA",
+                "NEW>SOMEWHERE:ADMIN",
+                "NEW>UNDER_REVIEW:JANITOR",
+                "NEW>UNDER_REVIEW:ADMIN:SEND_FLOWERS"
+        };
+        for (String entry : malformed) {
+            assertThrows(IllegalStateException.class, () -> workflow(entry, "CLOSED"), entry);
+        }
+    }
+
+    @Test
+    void entryLeavingFinalStateFailsAtStartup() {
+        assertThrows(IllegalStateException.class,
+                () -> workflow(ComplaintWorkflow.DEFAULT_TRANSITIONS + ",CLOSED>NEW:ADMIN", "CLOSED"));
+    }
+}